@@ -0,0 +1,92 @@
+package com.booksy.domain.book.external;
+
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import com.booksy.domain.book.external.dto.LibraryPage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+/**
+ * 도서관 목록 한 페이지(1000곳) 응답 파싱 비용 비교 (응답 본문은 주소, 전화번호 등 사용하지 않는 필드 포함)
+ * <p>
+ * dom: 기존 방식처럼 요청마다 DocumentBuilderFactory를 만들어 전체 문서를 DOM으로 읽은 뒤 도서관 추출<br>
+ * domSharedFactory: DocumentBuilderFactory만 재사용 (팩토리 조회 비용 분리용)<br>
+ * stax: LibraryXmlParser.parseLibraries
+ * <p>
+ * 실행: gradle jmh -Pjmh.includes=LibraryXmlParserBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LibraryXmlParserBenchmark {
+
+  private static final int LIBRARIES = 1000;
+
+  private final LibraryXmlParser parser = new LibraryXmlParser();
+  private final DocumentBuilderFactory sharedFactory = DocumentBuilderFactory.newInstance();
+  private byte[] body;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+        .append("<response><request><pageNo>1</pageNo><pageSize>").append(LIBRARIES)
+        .append("</pageSize></request><numFound>").append(LIBRARIES).append("</numFound><libs>");
+    for (int i = 0; i < LIBRARIES; i++) {
+      xml.append("<lib><libCode>").append(100000 + i).append("</libCode>")
+          .append("<libName><![CDATA[도서관 ").append(i).append("]]></libName>")
+          .append("<address><![CDATA[서울특별시 어딘가로 ").append(i).append("]]></address>")
+          .append("<tel>02-000-").append(i).append("</tel>")
+          .append("<homepage>https://library").append(i).append(".example.org</homepage>")
+          .append("<latitude>").append(33 + random.nextDouble() * 5.5).append("</latitude>")
+          .append("<longitude>").append(125 + random.nextDouble() * 5).append("</longitude>")
+          .append("<operatingTime>09:00~18:00</operatingTime></lib>");
+    }
+    body = xml.append("</libs></response>").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public List<LibraryInfo> dom() throws Exception {
+    return parseDom(DocumentBuilderFactory.newInstance());
+  }
+
+  @Benchmark
+  public List<LibraryInfo> domSharedFactory() throws Exception {
+    return parseDom(sharedFactory);
+  }
+
+  @Benchmark
+  public LibraryPage stax() {
+    return parser.parseLibraries(new ByteArrayInputStream(body));
+  }
+
+  private List<LibraryInfo> parseDom(DocumentBuilderFactory factory) throws Exception {
+    Document document = factory.newDocumentBuilder().parse(new ByteArrayInputStream(body));
+    NodeList libNodes = document.getElementsByTagName("lib");
+    List<LibraryInfo> result = new ArrayList<>(libNodes.getLength());
+    for (int i = 0; i < libNodes.getLength(); i++) {
+      Element lib = (Element) libNodes.item(i);
+      result.add(new LibraryInfo(text(lib, "libCode"), text(lib, "libName"),
+          Double.parseDouble(text(lib, "latitude")), Double.parseDouble(text(lib, "longitude"))));
+    }
+    return result;
+  }
+
+  private static String text(Element parent, String tagName) {
+    return parent.getElementsByTagName(tagName).item(0).getTextContent().trim();
+  }
+}
@@ -0,0 +1,114 @@
+package com.booksy.domain.book.external;
+
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+/**
+ * 주변 도서관 조회 요청당 비용 비교 (도서관 2000곳, 절반은 서울 주변, 서울 시청 기준 조회)
+ * <p>
+ * legacy: 기존 방식처럼 요청마다 목록 XML 두 페이지를 DOM으로 파싱하며 전체 거리 비교 (HTTP 호출 비용은 제외)<br>
+ * linearScan: 파싱해 둔 목록을 전체 거리 비교<br>
+ * gridIndex: LibraryGridIndex.findWithin
+ * <p>
+ * 실행: gradle jmh -Pjmh.includes=NearbyLibraryBenchmark -Pjmh.profilers=gc (요청당 할당량은 gc.alloc.rate.norm)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearbyLibraryBenchmark {
+
+  private static final int LIBRARIES = 2000;
+  private static final double CENTER_LAT = 37.5665;
+  private static final double CENTER_LNG = 126.978;
+
+  @Param({"3", "10"})
+  private double radiusKm;
+
+  private List<LibraryInfo> libraries;
+  private LibraryGridIndex index;
+  private String[] xmlPages;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    libraries = new ArrayList<>(LIBRARIES);
+    for (int i = 0; i < LIBRARIES; i++) {
+      boolean seoul = i % 2 == 0;
+      double lat = seoul ? CENTER_LAT + random.nextGaussian() * 0.1 : 33 + random.nextDouble() * 5.5;
+      double lng = seoul ? CENTER_LNG + random.nextGaussian() * 0.1 : 125 + random.nextDouble() * 5;
+      libraries.add(new LibraryInfo("L" + i, "도서관 " + i, lat, lng));
+    }
+    index = LibraryGridIndex.build(libraries, 0.1);
+    xmlPages = new String[]{xmlPage(0, LIBRARIES / 2), xmlPage(LIBRARIES / 2, LIBRARIES)};
+  }
+
+  @Benchmark
+  public List<LibraryInfo> legacy() throws Exception {
+    List<LibraryInfo> result = new ArrayList<>();
+    for (String xml : xmlPages) {
+      DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+      Document document = builder.parse(new InputSource(new StringReader(xml)));
+      NodeList libNodes = document.getElementsByTagName("lib");
+      for (int i = 0; i < libNodes.getLength(); i++) {
+        Element lib = (Element) libNodes.item(i);
+        double lat = Double.parseDouble(text(lib, "latitude"));
+        double lng = Double.parseDouble(text(lib, "longitude"));
+        if (LibraryGridIndex.distanceKm(CENTER_LAT, CENTER_LNG, lat, lng) <= radiusKm) {
+          result.add(new LibraryInfo(text(lib, "libCode"), text(lib, "libName"), lat, lng));
+        }
+      }
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<LibraryInfo> linearScan() {
+    List<LibraryInfo> result = new ArrayList<>();
+    for (LibraryInfo library : libraries) {
+      if (LibraryGridIndex.distanceKm(CENTER_LAT, CENTER_LNG, library.getLatitude(),
+          library.getLongitude()) <= radiusKm) {
+        result.add(library);
+      }
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<LibraryInfo> gridIndex() {
+    return index.findWithin(CENTER_LAT, CENTER_LNG, radiusKm);
+  }
+
+  private String xmlPage(int from, int to) {
+    StringBuilder xml = new StringBuilder("<response><libs>");
+    for (int i = from; i < to; i++) {
+      LibraryInfo library = libraries.get(i);
+      xml.append("<lib><libCode>").append(library.getLibCode()).append("</libCode>")
+          .append("<libName>").append(library.getLibraryName()).append("</libName>")
+          .append("<latitude>").append(library.getLatitude()).append("</latitude>")
+          .append("<longitude>").append(library.getLongitude()).append("</longitude></lib>");
+    }
+    return xml.append("</libs></response>").toString();
+  }
+
+  private static String text(Element parent, String tagName) {
+    return parent.getElementsByTagName(tagName).item(0).getTextContent().trim();
+  }
+}
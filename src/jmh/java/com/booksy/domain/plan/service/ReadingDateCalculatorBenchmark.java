@@ -0,0 +1,63 @@
+package com.booksy.domain.plan.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 독서 예정일 계산 비용 비교 (주말 제외 + 공휴일 등 제외 날짜 20개)
+ * <p>
+ * legacy: 기존 PlanService.calculateReadingDates처럼 하루씩 훑으며 List.contains로 제외 여부 확인<br>
+ * calculator: ReadingDateCalculator
+ * <p>
+ * 실행: gradle jmh -Pjmh.includes=ReadingDateCalculatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadingDateCalculatorBenchmark {
+
+  @Param({"1", "30", "365"})
+  private int periodDays;
+
+  private final ReadingDateCalculator calculator = new ReadingDateCalculator();
+  private final LocalDate startDate = LocalDate.of(2024, 1, 1);
+  private final List<Integer> excludeWeekdays = List.of(0, 6);
+  private List<LocalDate> excludeDates;
+
+  @Setup
+  public void setUp() {
+    excludeDates = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      excludeDates.add(startDate.plusDays(i * 17L + 3));
+    }
+  }
+
+  @Benchmark
+  public List<LocalDate> legacy() {
+    List<LocalDate> result = new ArrayList<>();
+    LocalDate current = startDate;
+    while (result.size() < periodDays) {
+      if (!excludeDates.contains(current)
+          && !excludeWeekdays.contains(current.getDayOfWeek().getValue() % 7)) {
+        result.add(current);
+      }
+      current = current.plusDays(1);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<LocalDate> calculator() {
+    return calculator.calculate(startDate, periodDays, excludeDates, excludeWeekdays);
+  }
+}
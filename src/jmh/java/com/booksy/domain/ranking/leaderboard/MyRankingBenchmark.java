@@ -0,0 +1,82 @@
+package com.booksy.domain.ranking.leaderboard;
+
+import com.booksy.domain.ranking.dto.RankingResponseDto;
+import com.booksy.domain.ranking.type.RankingSort;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 내 순위 조회 비용 비교
+ * <p>
+ * legacy: 기존 방식처럼 전체 사용자의 랭킹 행(문자열 값 포함)을 만들고 선형 탐색 (DB 집계 비용은 제외, 애플리케이션 쪽 비용만)<br>
+ * leaderboard: 리더보드에서 순위/점수/인원을 바로 조회
+ * <p>
+ * 실행: gradle jmh -Pjmh.includes=MyRankingBenchmark (할당량은 -Pjmh.profilers=gc 결과의 gc.alloc.rate.norm 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MyRankingBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int users;
+
+  private int[] sortedUserIds;
+  private long[] sortedScores;
+  private Leaderboard leaderboard;
+  private int targetUserId;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    List<Leaderboard.Entry> entries = new ArrayList<>(users);
+    leaderboard = new Leaderboard(LocalDateTime.now());
+    for (int userId = 1; userId <= users; userId++) {
+      long minutes = 1 + random.nextInt(10_000);
+      entries.add(new Leaderboard.Entry(userId, minutes));
+      leaderboard.add(userId, minutes);
+    }
+    entries.sort(Comparator.comparingLong(Leaderboard.Entry::score).reversed()
+        .thenComparing(Leaderboard.Entry::userId));
+
+    sortedUserIds = entries.stream().mapToInt(Leaderboard.Entry::userId).toArray();
+    sortedScores = entries.stream().mapToLong(Leaderboard.Entry::score).toArray();
+    targetUserId = sortedUserIds[users * 3 / 4]; // 하위 25% 지점의 사용자
+  }
+
+  @Benchmark
+  public RankingResponseDto legacy() {
+    List<RankingResponseDto> rows = new ArrayList<>();
+    for (int i = 0; i < sortedUserIds.length; i++) {
+      rows.add(RankingResponseDto.builder()
+          .userId(sortedUserIds[i])
+          .rank(i + 1)
+          .value(RankingSort.TIME.formatValue(sortedScores[i]))
+          .valueType(RankingSort.TIME.getInput())
+          .build());
+    }
+    for (RankingResponseDto row : rows) {
+      if (row.getUserId() == targetUserId) {
+        return row;
+      }
+    }
+    return null;
+  }
+
+  @Benchmark
+  public Leaderboard.Position leaderboard() {
+    return leaderboard.positionOf(targetUserId);
+  }
+}
@@ -0,0 +1,94 @@
+package com.booksy.global.util;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청당 JWT 인증 비용 비교
+ * <p>
+ * legacy: 기존 필터처럼 validateToken + getUserId (매번 파서를 새로 만들어 서명 검증 두 번)<br>
+ * sharedParser: 미리 만든 파서로 한 번만 검증 (캐시에 없는 토큰의 비용과 같다)<br>
+ * authenticateMiss: authenticate에 처음 보는 토큰 (해시 + 검증 + 캐시 저장)<br>
+ * authenticateHit: authenticate에 이미 검증한 토큰 (해시 + 캐시 조회)
+ * <p>
+ * 실행: gradle jmh -Pjmh.includes=JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+  // 검증 캐시(최대 10,000개)보다 많아서 순환하면 매번 캐시에 없다
+  private static final int MISS_TOKENS = 50_000;
+
+  private JwtTokenProvider provider;
+  private Key key;
+  private JwtParser parser;
+  private String token;
+  private String[] missTokens;
+  private int missIndex;
+
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    provider = new JwtTokenProvider();
+    set("secretKey", SECRET);
+    set("tokenValidityInSeconds", 3600L);
+    provider.init();
+
+    key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    parser = Jwts.parserBuilder().setSigningKey(key).build();
+    token = provider.generateToken(1);
+    missTokens = new String[MISS_TOKENS];
+    for (int i = 0; i < MISS_TOKENS; i++) {
+      missTokens[i] = provider.generateToken(i + 2);
+    }
+    provider.authenticate(token);
+  }
+
+  @Benchmark
+  public Integer legacy() {
+    try {
+      Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+    } catch (Exception e) {
+      return null;
+    }
+    String subject = Jwts.parserBuilder().setSigningKey(key).build()
+        .parseClaimsJws(token).getBody().getSubject();
+    return Integer.parseInt(subject);
+  }
+
+  @Benchmark
+  public Integer sharedParser() {
+    return Integer.parseInt(parser.parseClaimsJws(token).getBody().getSubject());
+  }
+
+  @Benchmark
+  public Integer authenticateMiss() {
+    missIndex = (missIndex + 1) % MISS_TOKENS;
+    return provider.authenticate(missTokens[missIndex]);
+  }
+
+  @Benchmark
+  public Integer authenticateHit() {
+    return provider.authenticate(token);
+  }
+
+  private void set(String name, Object value) throws ReflectiveOperationException {
+    Field field = JwtTokenProvider.class.getDeclaredField(name);
+    field.setAccessible(true);
+    field.set(provider, value);
+  }
+}
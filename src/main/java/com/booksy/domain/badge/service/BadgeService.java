@@ -8,8 +8,9 @@ import com.booksy.domain.badge.repository.UserBadgeRepository;
 import com.booksy.domain.badge.type.BadgeType;
 import com.booksy.domain.plan.repository.PlanRepository;
 import com.booksy.domain.plan.type.PlanStatus;
+import com.booksy.domain.ranking.service.LeaderboardService;
 import com.booksy.domain.readinglog.repository.ReadingLogRepository;
-import com.booksy.domain.readinglog.repository.TimeRecordRepository;
+import com.booksy.domain.readinglog.repository.DailyReadingSummaryRepository;
 import com.booksy.domain.readinglog.type.ContentType;
 import com.booksy.domain.user.entity.User;
 import jakarta.transaction.Transactional;
@@ -30,7 +31,8 @@ public class BadgeService {
   private final UserBadgeRepository userBadgeRepository;
   private final PlanRepository planRepository;
   private final ReadingLogRepository readingLogRepository;
-  private final TimeRecordRepository timeRecordRepository;
+  private final DailyReadingSummaryRepository dailyReadingSummaryRepository;
+  private final LeaderboardService leaderboardService;
 
   /**
    * 배지를 2개 획득할 때마다 1레벨씩 레벨업
@@ -44,6 +46,19 @@ public class BadgeService {
     }
   }
 
+  /**
+   * 뱃지 지급 → 레벨 갱신 및 랭킹 리더보드 반영
+   */
+  private void grantBadge(User user, Badge badge) {
+    userBadgeRepository.save(UserBadge.builder()
+        .user(user)
+        .badge(badge)
+        .acquiredAt(LocalDateTime.now())
+        .build());
+    updateUserLevel(user);
+    leaderboardService.recordBadge(user.getId());
+  }
+
   /**
    * 플랜 완료 시 호출 → CATEGORY_COUNT, PLAN_COUNT 평가
    */
@@ -69,12 +84,7 @@ public class BadgeService {
       };
 
       if (satisfied) {
-        userBadgeRepository.save(UserBadge.builder()
-            .user(user)
-            .badge(badge)
-            .acquiredAt(LocalDateTime.now())
-            .build());
-        updateUserLevel(user);
+        grantBadge(user, badge);
         result.add(badge);
       }
     }
@@ -102,12 +112,7 @@ public class BadgeService {
       boolean satisfied = evaluateReadingLog(user, badge);
 
       if (satisfied) {
-        userBadgeRepository.save(UserBadge.builder()
-            .user(user)
-            .badge(badge)
-            .acquiredAt(LocalDateTime.now())
-            .build());
-        updateUserLevel(user);
+        grantBadge(user, badge);
         result.add(badge);
       }
     }
@@ -131,12 +136,7 @@ public class BadgeService {
       boolean satisfied = evaluateTime(user, badge);
 
       if (satisfied) {
-        userBadgeRepository.save(UserBadge.builder()
-            .user(user)
-            .badge(badge)
-            .acquiredAt(LocalDateTime.now())
-            .build());
-        updateUserLevel(user);
+        grantBadge(user, badge);
         result.add(badge);
       }
     }
@@ -166,7 +166,7 @@ public class BadgeService {
   }
 
   private boolean evaluateTime(User user, Badge badge) {
-    int totalMinutes = timeRecordRepository.getTotalReadingTime(user.getId());
+    int totalMinutes = dailyReadingSummaryRepository.getTotalReadingTime(user.getId());
     return totalMinutes >= badge.getGoal(); // goal = 분 단위
   }
 }
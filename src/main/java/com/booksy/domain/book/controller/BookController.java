@@ -1,9 +1,11 @@
 package com.booksy.domain.book.controller;
 
 import com.booksy.domain.book.dto.BookResponseDto;
+import com.booksy.domain.book.dto.LibraryAvailabilityResponseDto;
 import com.booksy.domain.book.dto.LibraryLocationResponseDto;
 import com.booksy.domain.book.external.dto.BookAvailability;
 import com.booksy.domain.book.service.BookService;
+import com.booksy.domain.book.service.LibraryAvailabilityService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 public class BookController {
 
   private final BookService bookService;
+  private final LibraryAvailabilityService libraryAvailabilityService;
 
   /**
    * ISBN으로 도서 정보를 조회하는 API (내부 DB)
@@ -99,6 +102,27 @@ public class BookController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * 사용자 위치 근처 도서관들의 소장 여부 및 대출 가능 여부를 한 번에 조회하는 API
+   *
+   * @param isbn   ISBN-13
+   * @param lat    사용자 위도
+   * @param lng    사용자 경도
+   * @param radius 반경 (단위: km), 기본 2km
+   * @return 가까운 순 도서관별 소장/대출 가능 여부 (제한 시간 안에 확인하지 못한 도서관은 checked=false)
+   */
+  @GetMapping("/{isbn}/libraries/availability")
+  public ResponseEntity<List<LibraryAvailabilityResponseDto>> getNearbyLibraryAvailability(
+      @PathVariable String isbn,
+      @RequestParam double lat,
+      @RequestParam double lng,
+      @RequestParam(defaultValue = "2.0") double radius
+  ) {
+    List<LibraryAvailabilityResponseDto> response =
+        libraryAvailabilityService.getAvailabilityNearby(isbn, lat, lng, radius);
+    return ResponseEntity.ok(response);
+  }
+
   /**
    * 도서관 소장 여부 및 대출 가능 여부를 조회하는 API
    *
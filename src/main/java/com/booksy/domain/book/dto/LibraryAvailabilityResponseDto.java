@@ -0,0 +1,24 @@
+package com.booksy.domain.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 근처 도서관별 도서 소장/대출 가능 여부 응답 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class LibraryAvailabilityResponseDto {
+
+  private String libCode;
+  private String libraryName;
+  private double latitude;
+  private double longitude;
+  private double distanceKm; // 사용자 위치로부터의 거리
+
+  private boolean checked; // 제한 시간 안에 조회했는지 여부 (false면 hasBook, loanAvailable은 알 수 없음)
+  private boolean hasBook;
+  private boolean loanAvailable;
+}
@@ -0,0 +1,13 @@
+package com.booksy.domain.book.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * library 테이블 상태 요약 (행 수 + 마지막 변경 시각), 위치 인덱스를 만든 뒤 테이블이 바뀌었는지 판단하는 데 사용
+ *
+ * @param count         도서관 수
+ * @param lastUpdatedAt 가장 최근 추가/변경 시각 (빈 테이블이면 null)
+ */
+public record LibraryTableVersionDto(Long count, LocalDateTime lastUpdatedAt) {
+
+}
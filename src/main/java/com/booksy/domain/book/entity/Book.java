@@ -47,6 +47,13 @@ public class Book extends BaseTimeEntity {
   @Column(name = "difficulty_level")
   private String difficultyLevel;
 
+  // 알라딘 조회 시점의 판매가, 카테고리 경로 (이 컬럼이 없던 시기에 저장된 도서는 null)
+  @Column(name = "price_sales")
+  private Integer priceSales;
+
+  @Column(name = "category_name")
+  private String categoryName;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "category_id")
   private Category category;
@@ -0,0 +1,66 @@
+package com.booksy.domain.book.entity;
+
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import com.booksy.global.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 도서관 정보나루에 등록된 도서관 (도서관 목록 동기화로 채워지며, 근처 도서관 조회는 이 테이블 기준)
+ */
+@Entity
+@Table(name = "library")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Library extends BaseTimeEntity {
+
+  @Id
+  @Column(name = "lib_code")
+  private String libCode;
+
+  @Column(nullable = false)
+  private String name;
+
+  private double latitude;
+  private double longitude;
+
+  public static Library from(LibraryInfo info) {
+    return Library.builder()
+        .libCode(info.getLibCode())
+        .name(info.getLibraryName())
+        .latitude(info.getLatitude())
+        .longitude(info.getLongitude())
+        .build();
+  }
+
+  /**
+   * 외부 API 정보와 이름/좌표가 다르면 갱신
+   *
+   * @return 변경 여부
+   */
+  public boolean updateFrom(LibraryInfo info) {
+    if (name.equals(info.getLibraryName())
+        && Double.compare(latitude, info.getLatitude()) == 0
+        && Double.compare(longitude, info.getLongitude()) == 0) {
+      return false;
+    }
+    this.name = info.getLibraryName();
+    this.latitude = info.getLatitude();
+    this.longitude = info.getLongitude();
+    return true;
+  }
+
+  public LibraryInfo toInfo() {
+    return new LibraryInfo(libCode, name, latitude, longitude);
+  }
+}
@@ -2,23 +2,32 @@ package com.booksy.domain.book.external;
 
 import com.booksy.domain.book.dto.BookResponseDto;
 import com.booksy.domain.book.external.dto.AladinItemResultDto;
+import com.booksy.domain.book.external.dto.AladinSearchKey;
 import com.booksy.domain.book.external.type.AladinListType;
 import com.booksy.domain.book.external.type.AladinSortType;
 import com.booksy.domain.book.mapper.BookMapper;
-import com.booksy.domain.plan.repository.PlanRepository;
-import com.booksy.domain.plan.type.PlanStatus;
 import com.booksy.global.error.ErrorCode;
 import com.booksy.global.error.exception.ApiException;
+import com.booksy.global.resilience.ExternalApiGuard;
+import com.booksy.global.resilience.Upstream;
+import com.booksy.global.util.SingleFlight;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -30,25 +39,88 @@ import org.springframework.web.util.UriComponentsBuilder;
 @RequiredArgsConstructor
 public class BookExternalClient {
 
-  private final RestTemplate restTemplate = new RestTemplate();
+  @Qualifier("aladinRestTemplate")
+  private final RestTemplate restTemplate;
   private final BookMapper bookMapper;
-  private final PlanRepository planRepository;
+  private final ExternalApiGuard externalApiGuard;
+
+  private final MeterRegistry meterRegistry;
+  @Qualifier("cacheRefreshExecutor")
+  private final ThreadPoolTaskExecutor cacheRefreshExecutor;
+
+  // 정규화된 키워드 검색별 알라딘 응답
+  // (refresh-after가 지나면 기존 값을 돌려주면서 백그라운드에서 갱신하고, 갱신이 실패하는 동안(알라딘 장애)에는 만료 전까지 기존 값 사용)
+  private LoadingCache<AladinSearchKey, AladinItemResultDto> searchResults;
+
+  // 같은 검색/조회가 동시에 들어오면 알라딘 호출 한 번의 응답을 함께 사용
+  private final SingleFlight<AladinSearchKey, AladinItemResultDto> searchFlights =
+      new SingleFlight<>();
+  private final SingleFlight<String, AladinItemResultDto> lookupFlights = new SingleFlight<>();
 
   @Value("${external.aladin.api-key}")
   private String apiKey;
 
+  @Value("${external.aladin.search-cache.max-size:10000}")
+  private long searchCacheMaxSize;
+
+  @Value("${external.aladin.search-cache.refresh-after:10m}")
+  private Duration searchCacheRefreshAfter;
+
+  @Value("${external.aladin.search-cache.expire-after:6h}")
+  private Duration searchCacheExpireAfter;
+
+  @PostConstruct
+  void initSearchCache() {
+    searchResults = Caffeine.newBuilder()
+        .maximumSize(searchCacheMaxSize)
+        .refreshAfterWrite(searchCacheRefreshAfter)
+        .expireAfterWrite(searchCacheExpireAfter)
+        .executor(cacheRefreshExecutor)
+        .recordStats()
+        .build(key -> externalApiGuard.call(Upstream.ALADIN, () -> fetchSearch(key)));
+    CaffeineCacheMetrics.monitor(meterRegistry, searchResults, "aladinSearch");
+  }
+
   /**
    * 알라딘 API에 키워드 검색 요청을 보내 도서 리스트를 가져온다.
+   * <p>
+   * 결과는 정규화된 (검색어, 시작 위치, 개수, 정렬) 단위로 캐시되며 사용자와 무관하다. 반환 리스트는 호출마다 새로 만들어지므로 호출 측에서
+   * 사용자별 정보를 덧붙여도 된다.
    *
    * @param keyword 검색 키워드
    * @param limit   최대 검색 결과 수
    * @return BookResponseDto 리스트 (정제된 형태)
+   * @throws ApiException EXTERNAL_API_UNAVAILABLE (캐시에 없는 검색인데 알라딘을 사용할 수 없을 때)
    */
   public List<BookResponseDto> searchBooksByKeyword(String keyword, int start, int limit,
       String sort)
       throws ApiException {
-    String sortOption = AladinSortType.fromInput(sort);
+    AladinSearchKey key = AladinSearchKey.of(keyword, start, limit,
+        AladinSortType.fromInput(sort));
+
+    AladinItemResultDto response = searchResults.getIfPresent(key);
+    if (response == null) {
+      response = searchFlights.execute(key, () -> {
+        // 캐시에 없는 검색은 대체할 응답이 없으므로 알라딘 장애 시 EXTERNAL_API_UNAVAILABLE
+        AladinItemResultDto body = externalApiGuard.call(Upstream.ALADIN, () -> fetchSearch(key),
+            () -> {
+              throw new ApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+            });
+        if (body != null) {
+          searchResults.put(key, body);
+        }
+        return body;
+      });
+    }
+
+    if (response == null || response.getItem() == null || response.getItem().isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    return bookMapper.toDtoListFromAladin(response.getItem());
+  }
 
+  private AladinItemResultDto fetchSearch(AladinSearchKey key) {
     HttpHeaders headers = new HttpHeaders();
     headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64)");
 
@@ -56,36 +128,28 @@ public class BookExternalClient {
 
     URI uri = UriComponentsBuilder.fromHttpUrl("https://www.aladin.co.kr/ttb/api/ItemSearch.aspx")
         .queryParam("ttbkey", apiKey)
-        .queryParam("Query", keyword)
+        .queryParam("Query", key.query())
         .queryParam("QueryType", "Keyword")
         .queryParam("SearchTarget", "Book")
-        .queryParam("MaxResults", limit)
-        .queryParam("start", start)
-        .queryParam("Sort", sortOption)
+        .queryParam("MaxResults", key.limit())
+        .queryParam("start", key.start())
+        .queryParam("Sort", key.sort())
         .queryParam("output", "js")
         .queryParam("Version", "20131101")
         .build()
         .encode()
         .toUri();
 
-    ResponseEntity<AladinItemResultDto> responseEntity = restTemplate.exchange(
+    return restTemplate.exchange(
         uri,
         HttpMethod.GET,
         entity,
         AladinItemResultDto.class
-    );
-
-    AladinItemResultDto response = responseEntity.getBody();
-
-    if (response == null || response.getItem() == null || response.getItem().isEmpty()) {
-      return Collections.emptyList();
-    }
-
-    return bookMapper.toDtoListFromAladin(response.getItem());
+    ).getBody();
   }
 
   /**
-   * 알라딘 API에 ISBN 기반 단일 도서 상세 조회 요청을 보낸다. (AI 가공용)
+   * 알라딘 API에 ISBN 기반 단일 도서 상세 조회 요청을 보낸다. (사용자별 정보 없이 도서 정보만 조회)
    *
    * @param isbn 조회할 도서의 ISBN
    * @return BookResponseDto (정제된 도서 정보)
@@ -101,45 +165,15 @@ public class BookExternalClient {
         .queryParam("Version", "20131101")
         .toUriString();
 
-    AladinItemResultDto response = restTemplate.getForObject(url,
-        AladinItemResultDto.class);
+    AladinItemResultDto response = lookupFlights.execute(isbn,
+        () -> externalApiGuard.call(Upstream.ALADIN,
+            () -> restTemplate.getForObject(url, AladinItemResultDto.class)));
 
     if (response == null || response.getItem() == null || response.getItem().isEmpty()) {
       throw new ApiException(ErrorCode.BOOK_NOT_FOUND_EXTERNAL);
     }
 
-    return bookMapper.toDto(response.getItem().get(0));
-  }
-
-  /**
-   * 알라딘 API에 ISBN 기반 단일 도서 상세 조회 요청을 보낸다. (조회용)
-   *
-   * @param isbn   조회할 도서의 ISBN
-   * @param userId 로그인한 유저
-   * @return BookResponseDto (정제된 도서 정보)
-   * @throws ApiException 알라딘 API로부터 응답이 없거나 결과가 비어있을 경우
-   */
-  public BookResponseDto getBookByIsbnFromAladin(String isbn, Integer userId) {
-    String url = UriComponentsBuilder.fromHttpUrl(
-            "https://www.aladin.co.kr/ttb/api/ItemLookUp.aspx")
-        .queryParam("ttbkey", apiKey)
-        .queryParam("itemIdType", "ISBN13")
-        .queryParam("ItemId", isbn)
-        .queryParam("output", "js")
-        .queryParam("Version", "20131101")
-        .toUriString();
-
-    AladinItemResultDto response = restTemplate.getForObject(url,
-        AladinItemResultDto.class);
-
-    if (response == null || response.getItem() == null || response.getItem().isEmpty()) {
-      throw new ApiException(ErrorCode.BOOK_NOT_FOUND_EXTERNAL);
-    }
-
-    boolean isWishlisted = planRepository.existsByUserIdAndBookIsbnAndStatus(userId, isbn,
-        PlanStatus.WISHLIST);
-
-    return bookMapper.toDto(response.getItem().get(0), isWishlisted);
+    return bookMapper.toDto(response.getItem().get(0), false);
   }
 
   /**
@@ -170,7 +204,8 @@ public class BookExternalClient {
         .queryParam("SearchTarget", "Book")
         .toUriString();
 
-    AladinItemResultDto response = restTemplate.getForObject(url, AladinItemResultDto.class);
+    AladinItemResultDto response = externalApiGuard.call(Upstream.ALADIN,
+        () -> restTemplate.getForObject(url, AladinItemResultDto.class));
 
     if (response == null || response.getItem() == null || response.getItem().isEmpty()) {
       return Collections.emptyList();
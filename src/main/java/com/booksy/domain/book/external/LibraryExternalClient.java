@@ -2,33 +2,40 @@ package com.booksy.domain.book.external;
 
 import com.booksy.domain.book.external.dto.BookAvailability;
 import com.booksy.domain.book.external.dto.LibraryInfo;
+import com.booksy.domain.book.external.dto.LibraryPage;
 import com.booksy.global.error.ErrorCode;
 import com.booksy.global.error.exception.ApiException;
-import java.io.StringReader;
+import com.booksy.global.resilience.ExternalApiGuard;
+import com.booksy.global.resilience.Upstream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
 /**
  * 전국 도서관 통합자료검색(data4library) API를 호출하여 도서관 위치 정보 및 도서 소장/대출 가능 여부를 조회하는 외부 API 클라이언트
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class LibraryExternalClient {
 
-  private final RestTemplate restTemplate = new RestTemplate();
+  // 도서관 목록을 페이지 단위로 가져올 때의 페이지 크기와 최대 페이지 수
+  private static final int DIRECTORY_PAGE_SIZE = 1000;
+  private static final int DIRECTORY_MAX_PAGES = 50;
+
+  @Qualifier("libraryRestTemplate")
+  private final RestTemplate restTemplate;
+  private final ExternalApiGuard externalApiGuard;
+  private final LibraryXmlParser libraryXmlParser;
 
   /**
    * data4library API 인증키
@@ -36,31 +43,31 @@ public class LibraryExternalClient {
   @Value("${external.library.api-key}")
   private String apiKey;
 
+  // 소장 조회 디버그 로그를 남길 비율 (N건 중 1건, 0 이하면 남기지 않음)
+  @Value("${external.library.debug-log-sample-rate:100}")
+  private int debugLogSampleRate;
+
   /**
-   * 위도/경도와 반경(km)을 기반으로 근처 도서관 목록을 조회한다. 내부적으로 data4library를 2페이지로 나눠 호출하고, 캐싱된 XML을 파싱해서 반경
-   * 필터링한다.
+   * 전체 도서관 목록 조회 (페이지 크기보다 적게 온 페이지를 마지막 페이지로 보고 끝까지 조회)
+   *
+   * @throws ApiException 중간 페이지 조회가 실패한 경우 (일부 목록만 반환하지 않음)
    */
-  public List<LibraryInfo> getNearbyLibraries(double latitude, double longitude, double radiusKm) {
-    // 1페이지 + 2페이지 XML 호출 (캐싱됨)
-    String xmlPage1 = getXmlByPage(1, 1000);
-    String xmlPage2 = getXmlByPage(2, 1000);
-
-    // 거리 필터링
-    List<LibraryInfo> page1 = parseXmlResponse(xmlPage1, latitude, longitude, radiusKm);
-    List<LibraryInfo> page2 = parseXmlResponse(xmlPage2, latitude, longitude, radiusKm);
-
-    List<LibraryInfo> result = new ArrayList<>();
-    result.addAll(page1);
-    result.addAll(page2);
-
-    return result;
+  public List<LibraryInfo> getAllLibraries() {
+    List<LibraryInfo> libraries = new ArrayList<>();
+    for (int pageNo = 1; pageNo <= DIRECTORY_MAX_PAGES; pageNo++) {
+      LibraryPage page = getLibrariesByPage(pageNo, DIRECTORY_PAGE_SIZE);
+      libraries.addAll(page.libraries());
+      if (page.entries() < DIRECTORY_PAGE_SIZE) {
+        break;
+      }
+    }
+    return libraries;
   }
 
   /**
-   * 각 페이지별 도서관 XML을 반환 (Caffeine 캐싱됨)
+   * 페이지별 도서관 목록 조회 (응답 스트림을 바로 파싱)
    */
-  @Cacheable(value = "libraryXmlCache", key = "#pageNo")
-  public String getXmlByPage(int pageNo, int pageSize) {
+  private LibraryPage getLibrariesByPage(int pageNo, int pageSize) {
     URI uri = UriComponentsBuilder.fromHttpUrl("https://data4library.kr/api/libSrch")
         .queryParam("authKey", apiKey)
         .queryParam("pageNo", pageNo)
@@ -68,71 +75,9 @@ public class LibraryExternalClient {
         .build()
         .toUri();
 
-    return restTemplate.getForObject(uri, String.class);
-  }
-
-  /**
-   * XML 응답을 파싱하고, 사용자 위치에서 반경 이내 도서관만 반환
-   */
-  private List<LibraryInfo> parseXmlResponse(String xmlResponse, double userLat, double userLng,
-      double radiusKm) {
-    List<LibraryInfo> libraries = new ArrayList<>();
-
-    try {
-      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-      DocumentBuilder builder = factory.newDocumentBuilder();
-      Document document = builder.parse(new InputSource(new StringReader(xmlResponse)));
-
-      NodeList libNodes = document.getElementsByTagName("lib");
-
-      for (int i = 0; i < libNodes.getLength(); i++) {
-        Element libElement = (Element) libNodes.item(i);
-
-        String libCode = getTextContent(libElement, "libCode");
-        String libName = getTextContent(libElement, "libName");
-        String latStr = getTextContent(libElement, "latitude");
-        String lngStr = getTextContent(libElement, "longitude");
-
-        if (libCode != null && libName != null && latStr != null && lngStr != null) {
-          double libLat = Double.parseDouble(latStr);
-          double libLng = Double.parseDouble(lngStr);
-          double distance = calculateDistance(userLat, userLng, libLat, libLng);
-
-          if (distance <= radiusKm) {
-            libraries.add(new LibraryInfo(libCode, libName, libLat, libLng));
-          }
-        }
-      }
-    } catch (Exception e) {
-      throw new ApiException(ErrorCode.LIBRARY_API_UNAVAILABLE);
-    }
-
-    return libraries;
-  }
-
-  /**
-   * 두 좌표 간 거리 계산 (단위: km)
-   */
-  private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-    final int R = 6371;
-    double dLat = Math.toRadians(lat2 - lat1);
-    double dLon = Math.toRadians(lon2 - lon1);
-    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-        * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-    return R * c;
-  }
-
-  /**
-   * XML 태그에서 텍스트 값 추출
-   */
-  private String getTextContent(Element parent, String tagName) {
-    NodeList nodeList = parent.getElementsByTagName(tagName);
-    if (nodeList.getLength() > 0) {
-      return nodeList.item(0).getTextContent().trim();
-    }
-    return null;
+    return externalApiGuard.call(Upstream.LIBRARY,
+        () -> restTemplate.execute(uri, HttpMethod.GET, null,
+            response -> libraryXmlParser.parseLibraries(response.getBody())));
   }
 
   /**
@@ -151,27 +96,22 @@ public class LibraryExternalClient {
         .build()
         .toUri();
 
+    // 차단기가 열려 있거나 동시 호출이 가득 차면 바로 실패 처리
+    BookAvailability availability;
     try {
-      String xmlResponse = restTemplate.getForObject(uri, String.class);
-      System.out.println("도서관 API XML 응답:\n" + xmlResponse);  // 디버깅용 로그
-
-      if (xmlResponse == null || xmlResponse.isBlank()) {
-        throw new ApiException(ErrorCode.LIBRARY_API_UNAVAILABLE);
-      }
-
-      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-      DocumentBuilder builder = factory.newDocumentBuilder();
-      Document document = builder.parse(new InputSource(new StringReader(xmlResponse)));
-
-      Element result = (Element) document.getElementsByTagName("result").item(0);
-
-      boolean hasBook = "Y".equalsIgnoreCase(getTextContent(result, "hasBook"));
-      boolean loanAvailable = "Y".equalsIgnoreCase(getTextContent(result, "loanAvailable"));
-
-      return new BookAvailability(hasBook, loanAvailable);
-
-    } catch (Exception e) {
+      availability = externalApiGuard.call(Upstream.LIBRARY,
+          () -> restTemplate.execute(uri, HttpMethod.GET, null,
+              response -> libraryXmlParser.parseAvailability(response.getBody())));
+    } catch (RuntimeException e) {
       throw new ApiException(ErrorCode.LIBRARY_API_UNAVAILABLE);
     }
+
+    // 디버깅용 로그 (매 호출이 아니라 일부만 남김)
+    if (log.isDebugEnabled() && debugLogSampleRate > 0
+        && ThreadLocalRandom.current().nextInt(debugLogSampleRate) == 0) {
+      log.debug("도서관 소장 조회: libCode={}, isbn={}, hasBook={}, loanAvailable={}", libCode,
+          isbn13, availability.isHasBook(), availability.isLoanAvailable());
+    }
+    return availability;
   }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.booksy.domain.book.external;
+
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 도서관 위치 격자 인덱스 (생성 후 변경되지 않으므로 여러 스레드가 동시에 조회해도 안전)
+ * <p>
+ * 위도/경도를 일정 간격의 격자 칸으로 나누고, 도서관을 칸 번호 순으로 정렬해 병렬 배열(코드, 이름, 좌표)에 담는다. 반경 조회는 반경을 감싸는 칸들만
+ * 이진 탐색으로 찾아 그 안의 도서관만 거리 계산하며, 반경이 커서 훑을 칸이 도서관이 있는 칸보다 많으면 전체를 순차 비교한다. 경도 ±180도 경계를 넘는
+ * 반경은 고려하지 않는다. (국내 도서관 전용)
+ */
+public class LibraryGridIndex {
+
+  private static final double EARTH_RADIUS_KM = 6371;
+  private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+  private final double cellDegrees;
+  private final int columns;
+
+  // 칸 번호 순으로 정렬된 도서관 정보
+  private final String[] codes;
+  private final String[] names;
+  private final double[] latitudes;
+  private final double[] longitudes;
+  private final double[] latRadians;
+  private final double[] cosLatitudes;
+
+  // 도서관이 있는 칸 번호(오름차순)와 각 칸의 시작 위치 (cellStarts[i] ~ cellStarts[i + 1] 전까지)
+  private final long[] cellKeys;
+  private final int[] cellStarts;
+
+  private LibraryGridIndex(List<LibraryInfo> libraries, double cellDegrees) {
+    this.cellDegrees = cellDegrees;
+    this.columns = (int) Math.ceil(360 / cellDegrees);
+
+    List<LibraryInfo> sorted = new ArrayList<>(libraries);
+    sorted.sort(Comparator.comparingLong(
+        library -> cellKey(library.getLatitude(), library.getLongitude())));
+
+    int size = sorted.size();
+    codes = new String[size];
+    names = new String[size];
+    latitudes = new double[size];
+    longitudes = new double[size];
+    latRadians = new double[size];
+    cosLatitudes = new double[size];
+
+    long[] keys = new long[size];
+    int[] starts = new int[size + 1];
+    int cells = 0;
+    for (int i = 0; i < size; i++) {
+      LibraryInfo library = sorted.get(i);
+      codes[i] = library.getLibCode();
+      names[i] = library.getLibraryName();
+      latitudes[i] = library.getLatitude();
+      longitudes[i] = library.getLongitude();
+      latRadians[i] = Math.toRadians(latitudes[i]);
+      cosLatitudes[i] = Math.cos(latRadians[i]);
+
+      long key = cellKey(latitudes[i], longitudes[i]);
+      if (cells == 0 || keys[cells - 1] != key) {
+        keys[cells] = key;
+        starts[cells] = i;
+        cells++;
+      }
+    }
+    starts[cells] = size;
+
+    cellKeys = Arrays.copyOf(keys, cells);
+    cellStarts = Arrays.copyOf(starts, cells + 1);
+  }
+
+  /**
+   * 도서관 목록으로 인덱스 생성
+   *
+   * @param cellDegrees 격자 한 칸의 크기 (도 단위, 0.1도 ≒ 위도 방향 11km)
+   */
+  public static LibraryGridIndex build(List<LibraryInfo> libraries, double cellDegrees) {
+    return new LibraryGridIndex(libraries, cellDegrees);
+  }
+
+  /**
+   * 중심 좌표에서 반경(km) 이내의 도서관 조회
+   */
+  public List<LibraryInfo> findWithin(double latitude, double longitude, double radiusKm) {
+    List<LibraryInfo> result = new ArrayList<>();
+    if (codes.length == 0 || radiusKm < 0) {
+      return result;
+    }
+
+    double lat = Math.toRadians(latitude);
+    double cosLat = Math.cos(lat);
+
+    // 경도 1도의 거리는 극에 가까울수록 짧아지므로, 반경 안에서 가장 극에 가까운 위도를 기준으로 경도 범위를 넓힌다
+    double latSpan = radiusKm / KM_PER_DEGREE;
+    double farthestLat = Math.min(Math.abs(latitude) + latSpan, 90);
+    double cosFarthest = Math.cos(Math.toRadians(farthestLat));
+    double lngSpan = cosFarthest > 1e-6 ? latSpan / cosFarthest : 360;
+    int rowFrom = row(latitude - latSpan);
+    int rowTo = row(latitude + latSpan);
+    int colFrom = Math.max(column(longitude - lngSpan), 0);
+    int colTo = Math.min(column(longitude + lngSpan), columns - 1);
+
+    long cellsToVisit = (long) (rowTo - rowFrom + 1) * (colTo - colFrom + 1);
+    if (lngSpan >= 180 || cellsToVisit > cellKeys.length) {
+      collect(0, codes.length, lat, cosLat, longitude, radiusKm, result);
+      return result;
+    }
+
+    for (int row = rowFrom; row <= rowTo; row++) {
+      long rowKey = (long) row * columns;
+      // 한 행의 칸은 번호가 연속이므로 시작 칸 위치만 찾고 순서대로 진행
+      int cell = Arrays.binarySearch(cellKeys, rowKey + colFrom);
+      if (cell < 0) {
+        cell = -cell - 1;
+      }
+      for (; cell < cellKeys.length && cellKeys[cell] <= rowKey + colTo; cell++) {
+        collect(cellStarts[cell], cellStarts[cell + 1], lat, cosLat, longitude, radiusKm, result);
+      }
+    }
+    return result;
+  }
+
+  public int size() {
+    return codes.length;
+  }
+
+  /**
+   * 두 좌표 간 하버사인 거리 (단위: km)
+   */
+  public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+    double sinLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+    double sinLng = Math.sin(Math.toRadians(lng2 - lng1) / 2);
+    double a = sinLat * sinLat
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+    return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+  }
+
+  private void collect(int from, int to, double lat, double cosLat, double longitude,
+      double radiusKm, List<LibraryInfo> result) {
+    for (int i = from; i < to; i++) {
+      if (distanceFrom(lat, cosLat, longitude, i) <= radiusKm) {
+        result.add(new LibraryInfo(codes[i], names[i], latitudes[i], longitudes[i]));
+      }
+    }
+  }
+
+  // 하버사인 거리 (중심점의 위도 라디안/코사인은 호출 측에서 한 번만 계산)
+  private double distanceFrom(double lat, double cosLat, double longitude, int i) {
+    double sinLat = Math.sin((latRadians[i] - lat) / 2);
+    double sinLng = Math.sin(Math.toRadians(longitudes[i] - longitude) / 2);
+    double a = sinLat * sinLat + cosLat * cosLatitudes[i] * sinLng * sinLng;
+    return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+  }
+
+  private long cellKey(double latitude, double longitude) {
+    return (long) row(latitude) * columns + column(longitude);
+  }
+
+  private int row(double latitude) {
+    return (int) Math.floor((Math.max(-90, Math.min(90, latitude)) + 90) / cellDegrees);
+  }
+
+  private int column(double longitude) {
+    return (int) Math.floor((longitude + 180) / cellDegrees);
+  }
+}
@@ -0,0 +1,165 @@
+package com.booksy.domain.book.external;
+
+import com.booksy.domain.book.external.dto.BookAvailability;
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import com.booksy.domain.book.external.dto.LibraryPage;
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.stereotype.Component;
+
+/**
+ * data4library XML 응답 파서
+ * <p>
+ * DOM 트리를 만들지 않고 StAX로 응답 스트림을 앞에서부터 한 번 읽으며 필요한 태그 값만 꺼낸다. XMLInputFactory는 설정 후 변경하지 않으므로
+ * 하나를 여러 스레드가 공유하며, DTD와 외부 엔티티는 처리하지 않는다. (XXE 방지)
+ */
+@Component
+public class LibraryXmlParser {
+
+  private final XMLInputFactory factory;
+
+  public LibraryXmlParser() {
+    factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+  }
+
+  /**
+   * 도서관 목록(libSrch) 응답 파싱 (좌표가 없거나 잘못된 도서관은 제외)
+   *
+   * @throws ApiException LIBRARY_API_UNAVAILABLE (XML 형식이 잘못된 경우)
+   */
+  public LibraryPage parseLibraries(InputStream body) {
+    List<LibraryInfo> libraries = new ArrayList<>();
+    int entries = 0;
+
+    XMLStreamReader reader = open(body);
+    try {
+      String libCode = null;
+      String libName = null;
+      String latitude = null;
+      String longitude = null;
+      boolean inLib = false;
+
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          String name = reader.getLocalName();
+          if ("lib".equals(name)) {
+            inLib = true;
+            libCode = libName = latitude = longitude = null;
+          } else if (inLib) {
+            switch (name) {
+              case "libCode" -> libCode = text(reader);
+              case "libName" -> libName = text(reader);
+              case "latitude" -> latitude = text(reader);
+              case "longitude" -> longitude = text(reader);
+              default -> {
+              }
+            }
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT && "lib".equals(reader.getLocalName())) {
+          inLib = false;
+          entries++;
+          LibraryInfo library = toLibrary(libCode, libName, latitude, longitude);
+          if (library != null) {
+            libraries.add(library);
+          }
+        }
+      }
+    } catch (XMLStreamException e) {
+      throw new ApiException(ErrorCode.LIBRARY_API_UNAVAILABLE);
+    } finally {
+      close(reader);
+    }
+
+    return new LibraryPage(libraries, entries);
+  }
+
+  /**
+   * 도서 소장/대출 여부(bookExist) 응답 파싱
+   *
+   * @throws ApiException LIBRARY_API_UNAVAILABLE (XML 형식이 잘못되었거나 result 태그가 없는 경우)
+   */
+  public BookAvailability parseAvailability(InputStream body) {
+    XMLStreamReader reader = open(body);
+    try {
+      boolean inResult = false;
+      boolean hasResult = false;
+      boolean hasBook = false;
+      boolean loanAvailable = false;
+
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          String name = reader.getLocalName();
+          if ("result".equals(name)) {
+            inResult = hasResult = true;
+          } else if (inResult && "hasBook".equals(name)) {
+            hasBook = "Y".equalsIgnoreCase(text(reader));
+          } else if (inResult && "loanAvailable".equals(name)) {
+            loanAvailable = "Y".equalsIgnoreCase(text(reader));
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT
+            && "result".equals(reader.getLocalName())) {
+          inResult = false;
+        }
+      }
+
+      if (!hasResult) {
+        throw new ApiException(ErrorCode.LIBRARY_API_UNAVAILABLE);
+      }
+      return new BookAvailability(hasBook, loanAvailable);
+    } catch (XMLStreamException e) {
+      throw new ApiException(ErrorCode.LIBRARY_API_UNAVAILABLE);
+    } finally {
+      close(reader);
+    }
+  }
+
+  // 값이 비었거나 좌표가 숫자가 아닌 도서관은 목록 전체를 실패시키지 않고 제외
+  private LibraryInfo toLibrary(String libCode, String libName, String latitude,
+      String longitude) {
+    if (libCode == null || libName == null || latitude == null || longitude == null) {
+      return null;
+    }
+    try {
+      return new LibraryInfo(libCode, libName, Double.parseDouble(latitude),
+          Double.parseDouble(longitude));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private XMLStreamReader open(InputStream body) {
+    if (body == null) {
+      throw new ApiException(ErrorCode.LIBRARY_API_UNAVAILABLE);
+    }
+    try {
+      return factory.createXMLStreamReader(body);
+    } catch (XMLStreamException e) {
+      throw new ApiException(ErrorCode.LIBRARY_API_UNAVAILABLE);
+    }
+  }
+
+  // 현재 태그의 텍스트 (앞뒤 공백 제거)
+  private String text(XMLStreamReader reader) throws XMLStreamException {
+    return reader.getElementText().trim();
+  }
+
+  private void close(XMLStreamReader reader) {
+    try {
+      reader.close();
+    } catch (XMLStreamException ignored) {
+      // 읽기가 끝난 뒤라 닫기 실패는 결과에 영향 없음
+    }
+  }
+}
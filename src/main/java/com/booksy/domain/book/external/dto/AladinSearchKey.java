@@ -0,0 +1,50 @@
+package com.booksy.domain.book.external.dto;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 알라딘 키워드 검색 캐시 키
+ * <p>
+ * 같은 검색어가 입력 방식에 따라 다른 키가 되지 않도록 검색어를 정규화한다. (앞뒤 공백 제거, 유니코드 NFC 정규화 - 자모 분리 입력 통합,
+ * 소문자 변환, 연속 공백을 한 칸으로) 알라딘에는 대소문자를 바꾸지 않은 검색어(앞뒤 공백 제거 + NFC)를 보내며, 키 비교에는 정규화된 검색어만
+ * 쓰므로 대소문자만 다른 검색은 먼저 들어온 검색어의 결과를 함께 쓴다.
+ *
+ * @param keyword 정규화된 검색어 (캐시 키)
+ * @param query   알라딘에 보낼 검색어 (키 비교에서 제외)
+ * @param sort    알라딘 정렬 값 (AladinSortType으로 변환된 값)
+ */
+public record AladinSearchKey(String keyword, String query, int start, int limit, String sort) {
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  public static AladinSearchKey of(String keyword, int start, int limit, String sort) {
+    String query = keyword == null
+        ? "" : Normalizer.normalize(keyword.strip(), Normalizer.Form.NFC);
+    return new AladinSearchKey(normalize(query), query, start, limit, sort);
+  }
+
+  // 이미 앞뒤 공백 제거 + NFC 정규화된 검색어를 받아 캐시 키로 변환
+  private static String normalize(String query) {
+    return WHITESPACE.matcher(query).replaceAll(" ").toLowerCase(Locale.ROOT);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof AladinSearchKey other)) {
+      return false;
+    }
+    return start == other.start && limit == other.limit && keyword.equals(other.keyword)
+        && Objects.equals(sort, other.sort);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(keyword, start, limit, sort);
+  }
+}
@@ -0,0 +1,13 @@
+package com.booksy.domain.book.external.dto;
+
+import java.util.List;
+
+/**
+ * 도서관 목록 한 페이지의 파싱 결과
+ *
+ * @param libraries 좌표가 올바른 도서관 목록
+ * @param entries   응답에 포함된 도서관 항목 수 (제외된 항목 포함, 마지막 페이지 판단용)
+ */
+public record LibraryPage(List<LibraryInfo> libraries, int entries) {
+
+}
@@ -41,6 +41,42 @@ public class BookMapper {
       .build();
   }
 
+  /**
+   * Book 엔티티 → 도서 상세용 BookResponseDto 변환 (카테고리, 판매가 포함, 위시리스트 여부는 false)
+   * <p>
+   * 카테고리는 FK 값만 읽으므로 지연 로딩을 일으키지 않는다.
+   */
+  public BookResponseDto toDetailDto(Book book) {
+    BookResponseDto dto = toDto(book);
+    if (dto == null) {
+      return null;
+    }
+    dto.setCategoryId(book.getCategory() != null ? book.getCategory().getId() : null);
+    dto.setCategoryName(book.getCategoryName());
+    dto.setPriceSales(book.getPriceSales() != null ? book.getPriceSales() : 0);
+    return dto;
+  }
+
+  /**
+   * 캐시된 도서 정보에 사용자별 위시리스트 여부를 입힌 사본 생성 (캐시 원본은 수정하지 않는다)
+   */
+  public BookResponseDto withWishlisted(BookResponseDto dto, boolean isWishlisted) {
+    return BookResponseDto.builder()
+      .isbn(dto.getIsbn())
+      .title(dto.getTitle())
+      .author(dto.getAuthor())
+      .publisher(dto.getPublisher())
+      .publishedDate(dto.getPublishedDate())
+      .totalPage(dto.getTotalPage())
+      .imageUrl(dto.getImageUrl())
+      .description(dto.getDescription())
+      .categoryId(dto.getCategoryId())
+      .categoryName(dto.getCategoryName())
+      .priceSales(dto.getPriceSales())
+      .isWishlisted(isWishlisted)
+      .build();
+  }
+
   /**
    * BookResponseDto → Book 엔티티 변환
    */
@@ -58,6 +94,8 @@ public class BookMapper {
       .totalPage(dto.getTotalPage())
       .imageUrl(dto.getImageUrl())
       .description(dto.getDescription())
+      .priceSales(dto.getPriceSales())
+      .categoryName(dto.getCategoryName())
       .category(category)
       .build();
   }
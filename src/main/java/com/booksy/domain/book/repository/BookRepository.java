@@ -1,7 +1,13 @@
 package com.booksy.domain.book.repository;
 
 import com.booksy.domain.book.entity.Book;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * 도서 정보를 관리하는 JPA 레포지토리 인터페이스
@@ -9,4 +15,29 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface BookRepository extends JpaRepository<Book, String> {
   // ISBN(String)을 기본 키로 사용
 
+  /**
+   * 같은 ISBN이 없을 때만 도서 저장 (이미 있으면 아무것도 하지 않음)
+   * <p>
+   * 같은 도서를 동시에 저장해도 중복 키 오류 없이 한 건만 들어간다. (MySQL: INSERT ... ON DUPLICATE KEY UPDATE isbn =
+   * book.isbn) MySQL 드라이버는 기본 설정에서 중복으로 건너뛴 행도 영향받은 행으로 세므로, 저장 여부는 반환값이 아니라 다시 조회해서 확인한다.
+   */
+  @Modifying
+  @Query("""
+      INSERT INTO Book (isbn, title, author, publisher, publishedDate, totalPage, imageUrl,
+          description, priceSales, categoryName, category, createdAt, updatedAt)
+      VALUES (:#{#book.isbn}, :#{#book.title}, :#{#book.author}, :#{#book.publisher},
+          :#{#book.publishedDate}, :#{#book.totalPage}, :#{#book.imageUrl}, :#{#book.description},
+          :#{#book.priceSales}, :#{#book.categoryName}, :#{#book.category}, LOCAL DATETIME,
+          LOCAL DATETIME)
+      ON CONFLICT DO NOTHING
+      """)
+  void insertIfAbsent(@Param("book") Book book);
+
+  /**
+   * 공유 잠금으로 도서 조회 (트랜잭션 시작 후 다른 트랜잭션이 커밋한 행도 보인다)
+   */
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query("SELECT b FROM Book b WHERE b.isbn = :isbn")
+  Optional<Book> findForShareByIsbn(@Param("isbn") String isbn);
+
 }
@@ -0,0 +1,21 @@
+package com.booksy.domain.book.repository;
+
+import com.booksy.domain.book.dto.LibraryTableVersionDto;
+import com.booksy.domain.book.entity.Library;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * 도서관 목록 레포지토리 (도서관 코드를 기본 키로 사용)
+ */
+public interface LibraryRepository extends JpaRepository<Library, String> {
+
+  /**
+   * 테이블 상태 요약 조회 (추가/변경은 마지막 변경 시각, 삭제는 행 수로 드러난다)
+   */
+  @Query("""
+      SELECT new com.booksy.domain.book.dto.LibraryTableVersionDto(COUNT(l), MAX(l.updatedAt))
+      FROM Library l
+      """)
+  LibraryTableVersionDto findTableVersion();
+}
@@ -0,0 +1,39 @@
+package com.booksy.domain.book.scheculer;
+
+import com.booksy.domain.book.service.LibraryDirectoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LibraryDirectoryScheduler {
+
+  private final LibraryDirectoryService libraryDirectoryService;
+
+  // 시작 직후 한 번, 이후 하루 간격으로 도서관 목록 동기화 후 위치 인덱스 교체
+  // (외부 목록은 트랜잭션 밖에서 받고, 변경분 반영만 트랜잭션으로 처리)
+  @Scheduled(initialDelayString = "${external.library.directory.sync-initial-delay-ms:10000}",
+      fixedDelayString = "${external.library.directory.sync-interval-ms:86400000}")
+  public void syncLibraryDirectory() {
+    try {
+      libraryDirectoryService.apply(libraryDirectoryService.fetchAll());
+    } catch (RuntimeException e) {
+      log.warn("도서관 목록 동기화 실패, 기존 목록 사용: {}", e.getMessage());
+    }
+    refreshLibraryIndex();
+  }
+
+  // 다른 서버가 동기화한 변경도 반영되도록 테이블 상태가 바뀌었으면 위치 인덱스 교체
+  @Scheduled(initialDelayString = "${external.library.directory.refresh-interval-ms:600000}",
+      fixedDelayString = "${external.library.directory.refresh-interval-ms:600000}")
+  public void refreshLibraryIndex() {
+    try {
+      libraryDirectoryService.refreshIndex();
+    } catch (RuntimeException e) {
+      log.warn("도서관 위치 인덱스 갱신 실패, 기존 인덱스 사용: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.booksy.domain.book.service;
+
+import com.booksy.domain.book.dto.BookResponseDto;
+import com.booksy.domain.book.entity.Book;
+import com.booksy.domain.book.external.BookExternalClient;
+import com.booksy.domain.book.mapper.BookMapper;
+import com.booksy.domain.book.repository.BookRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * ISBN 기반 도서 메타데이터 조회 서비스 (사용자와 무관한 정보만 다룬다)
+ * <p>
+ * 인메모리 캐시(L1) → Book 테이블(L2) → 알라딘 API 순으로 조회하고, 아래 단계에서 찾은 값은 L1에 채운다. Book 테이블에는 플랜 등록 시
+ * 저장된 도서만 있으며, 판매가가 비어 있는(컬럼 추가 전에 저장된) 행은 알라딘에서 다시 가져온다. 캐시 적중률은 cache.gets{cache=bookMetadata},
+ * 단계별 조회 수는 book.metadata.lookups{source}로 기록된다.
+ */
+@Service
+public class BookMetadataService {
+
+  private final BookRepository bookRepository;
+  private final BookExternalClient bookExternalClient;
+  private final BookMapper bookMapper;
+
+  private final Cache<String, BookResponseDto> cache;
+  private final Counter databaseHits;
+  private final Counter aladinFetches;
+
+  public BookMetadataService(BookRepository bookRepository,
+      BookExternalClient bookExternalClient,
+      BookMapper bookMapper,
+      MeterRegistry meterRegistry,
+      @Value("${book.metadata.cache.max-size:10000}") long maxSize,
+      @Value("${book.metadata.cache.ttl:6h}") Duration ttl) {
+    this.bookRepository = bookRepository;
+    this.bookExternalClient = bookExternalClient;
+    this.bookMapper = bookMapper;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "bookMetadata");
+    this.databaseHits = meterRegistry.counter("book.metadata.lookups", "source", "database");
+    this.aladinFetches = meterRegistry.counter("book.metadata.lookups", "source", "aladin");
+  }
+
+  /**
+   * ISBN으로 도서 메타데이터 조회 (위시리스트 여부는 항상 false)
+   * <p>
+   * 캐시 원본이 아닌 사본을 돌려주므로 호출 측에서 사용자별 정보를 덧붙여도 된다. 트랜잭션 없이 호출해야 하며, Book 테이블 조회만
+   * 리포지토리의 짧은 읽기 트랜잭션으로 실행되고 알라딘 API 호출 동안에는 DB 커넥션을 잡고 있지 않는다.
+   *
+   * @throws com.booksy.global.error.exception.ApiException BOOK_NOT_FOUND_EXTERNAL (알라딘에 결과 없을 때, 캐시하지
+   *                                                        않음)
+   */
+  public BookResponseDto getMetadata(String isbn) {
+    BookResponseDto cached = cache.getIfPresent(isbn);
+    if (cached == null) {
+      cached = load(isbn);
+      cache.put(isbn, cached);
+    }
+    return bookMapper.withWishlisted(cached, false);
+  }
+
+  private BookResponseDto load(String isbn) {
+    Optional<Book> stored = bookRepository.findById(isbn);
+    if (stored.isPresent() && stored.get().getPriceSales() != null) {
+      databaseHits.increment();
+      return bookMapper.toDetailDto(stored.get());
+    }
+
+    aladinFetches.increment();
+    return bookExternalClient.getBookByIsbnFromAladin(isbn);
+  }
+}
@@ -4,7 +4,6 @@ import com.booksy.domain.book.dto.BookResponseDto;
 import com.booksy.domain.book.dto.LibraryLocationResponseDto;
 import com.booksy.domain.book.entity.Book;
 import com.booksy.domain.book.external.BookExternalClient;
-import com.booksy.domain.book.external.LibraryExternalClient;
 import com.booksy.domain.book.external.dto.BookAvailability;
 import com.booksy.domain.book.external.dto.LibraryInfo;
 import com.booksy.domain.book.mapper.BookMapper;
@@ -28,6 +27,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 도서 관련 비즈니스 로직을 처리하는 서비스 클래스
+ * <p>
+ * 알라딘/도서관 API를 호출하는 조회 메서드는 트랜잭션을 열지 않는다. 외부 호출 동안 DB 커넥션을 잡지 않도록 DB 조회는 리포지토리 호출마다 짧은
+ * 트랜잭션으로 실행된다.
  */
 @Service
 @RequiredArgsConstructor
@@ -36,7 +38,9 @@ public class BookService {
   private final BookRepository bookRepository;
   private final BookMapper bookMapper;
   private final BookExternalClient bookExternalClient;
-  private final LibraryExternalClient libraryExternalClient;
+  private final BookMetadataService bookMetadataService;
+  private final LibraryDirectoryService libraryDirectoryService;
+  private final LibraryAvailabilityService libraryAvailabilityService;
   private final CategoryRepository categoryRepository;
   private final UserService userService;
   private final PlanRepository planRepository;
@@ -62,7 +66,6 @@ public class BookService {
    * @param limit   최대 검색 결과 수
    * @return BookResponseDto 리스트
    */
-  @Transactional(readOnly = true)
   public List<BookResponseDto> searchBooksByKeyword(String keyword, int limit, String sort,
       int page) {
 
@@ -90,25 +93,27 @@ public class BookService {
   }
 
   /**
-   * 알라딘 API를 통해 ISBN 기반 도서 상세 정보를 조회
+   * ISBN 기반 도서 상세 정보를 조회 (도서 정보는 메타데이터 캐시에서, 위시리스트 여부는 사용자별로 조회)
    *
    * @param isbn 조회할 도서의 ISBN
    * @return BookResponseDto
    */
-  @Transactional(readOnly = true)
   public BookResponseDto getBookDetailFromAladin(String isbn) {
 
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     User user = userService.getCurrentUser(authentication);
 
-    return bookExternalClient.getBookByIsbnFromAladin(isbn, user.getId());
+    BookResponseDto book = bookMetadataService.getMetadata(isbn);
+    book.setWishlisted(planRepository.existsByUserIdAndBookIsbnAndStatus(user.getId(), isbn,
+        PlanStatus.WISHLIST));
+    return book;
   }
 
   /**
    * ISBN으로 책 정보를 조회하고, 없으면 알라딘 API에서 가져와 저장
    * <p>
-   * 1. 내부 DB(Book 테이블)에서 ISBN으로 조회 2. 존재하지 않으면 → 알라딘 API 호출하여 책 정보를 가져옴 3. 가져온 정보를 Book 엔티티로 변환하여
-   * DB에 저장
+   * 1. 내부 DB(Book 테이블)에서 ISBN으로 조회 2. 존재하지 않으면 → 도서 메타데이터 캐시(없으면 알라딘 API)에서 책 정보를 가져옴 3. 가져온
+   * 정보를 Book 엔티티로 변환하여 DB에 저장
    *
    * @param isbn 조회할 도서의 ISBN
    * @return Book 엔티티 (기존 또는 새로 저장된 값)
@@ -116,14 +121,10 @@ public class BookService {
    */
   @Transactional
   public Book findOrCreateBookByIsbn(String isbn) {
-    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-    User user = userService.getCurrentUser(authentication);
-
     return bookRepository.findById(isbn)
         .orElseGet(() -> {
-          // 알라딘 API 호출
-          BookResponseDto externalBook = bookExternalClient.getBookByIsbnFromAladin(isbn,
-              user.getId());
+          // 상세 화면에서 조회한 도서는 캐시에서, 아니면 알라딘 API 호출
+          BookResponseDto externalBook = bookMetadataService.getMetadata(isbn);
 
           if (externalBook == null) {
             throw new ApiException(ErrorCode.BOOK_NOT_FOUND_EXTERNAL);
@@ -135,9 +136,11 @@ public class BookService {
           Category category = categoryRepository.findById(categoryId)
               .orElseThrow(() -> new ApiException(ErrorCode.CATEGORY_NOT_FOUND));
 
-          Book newBook = bookMapper.toEntity(externalBook, category);
-
-          return bookRepository.save(newBook);
+          // 같은 도서를 동시에 저장하는 요청이 있어도 한 건만 들어가도록 중복이면 무시하고,
+          // 다른 트랜잭션이 방금 넣은 행도 보이도록 잠금 조회로 다시 읽는다
+          bookRepository.insertIfAbsent(bookMapper.toEntity(externalBook, category));
+          return bookRepository.findForShareByIsbn(isbn)
+              .orElseThrow(() -> new ApiException(ErrorCode.BOOK_NOT_FOUND_INTERNAL));
         });
   }
 
@@ -149,7 +152,6 @@ public class BookService {
    * @param sort       정렬 기준 (e.g., SalesPoint, PublishTime 등)
    * @return BookResponseDto 리스트
    */
-  @Transactional(readOnly = true)
   public List<BookResponseDto> getBooksByCategory(String categoryId, int limit, String sort,
       int page) {
     // 0. 사용자 인증 및 조회
@@ -184,15 +186,14 @@ public class BookService {
    * @param radius 검색 반경 (단위: km)
    * @return 도서관 위치 정보 목록
    */
-  @Transactional(readOnly = true)
   public List<LibraryLocationResponseDto> getNearbyLibrariesWithBook(
       String isbn, double lat, double lng, double radius
   ) {
     // 책이 존재하는지 검증 (내부 또는 외부로 확인)
-    findOrCreateBookByIsbn(isbn);
+    bookMetadataService.getMetadata(isbn);
 
     // 도서관 위치 목록 조회
-    List<LibraryInfo> libraries = libraryExternalClient.getNearbyLibraries(lat, lng, radius);
+    List<LibraryInfo> libraries = libraryDirectoryService.findNearby(lat, lng, radius);
 
     // 응답 DTO로 변환
     return libraries.stream()
@@ -212,10 +213,9 @@ public class BookService {
    * @param libCode 도서관 코드
    * @return BookAvailability 응답
    */
-  @Transactional(readOnly = true)
   public BookAvailability getBookAvailability(String isbn, String libCode) {
-    findOrCreateBookByIsbn(isbn);
-    return libraryExternalClient.getBookAvailability(libCode, isbn);
+    bookMetadataService.getMetadata(isbn);
+    return libraryAvailabilityService.getAvailability(libCode, isbn);
   }
 
 }
@@ -0,0 +1,197 @@
+package com.booksy.domain.book.service;
+
+import com.booksy.domain.book.dto.LibraryAvailabilityResponseDto;
+import com.booksy.domain.book.external.LibraryExternalClient;
+import com.booksy.domain.book.external.LibraryGridIndex;
+import com.booksy.domain.book.external.dto.BookAvailability;
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 도서관별 도서 소장/대출 가능 여부 조회 서비스
+ * <p>
+ * 조회 결과는 (도서관, ISBN) 단위로 캐시한다. 대출 가능 여부는 자주 바뀌므로 소장 도서는 짧게(기본 3분), 소장 여부는 거의 바뀌지 않으므로
+ * 미소장 결과는 길게(기본 6시간) 둔다. 근처 도서관 일괄 조회는 가까운 도서관부터 상한 개수만큼 전용 풀에서 동시에 조회하고, 제한 시간
+ * 안에 끝나지 않았거나 실패한 도서관은 확인 실패로 표시해 나머지 결과와 함께 돌려주고, 끝나지 않은 조회는 취소한다.
+ */
+@Slf4j
+@Service
+public class LibraryAvailabilityService {
+
+  private final LibraryExternalClient libraryExternalClient;
+  private final LibraryDirectoryService libraryDirectoryService;
+  private final BookMetadataService bookMetadataService;
+  private final ThreadPoolTaskExecutor executor;
+  private final Duration callTimeout;
+  private final int maxLibraries;
+
+  private final Cache<String, BookAvailability> cache;
+  private final Counter uncheckedCounter;
+
+  public LibraryAvailabilityService(LibraryExternalClient libraryExternalClient,
+      LibraryDirectoryService libraryDirectoryService,
+      BookMetadataService bookMetadataService,
+      @Qualifier("libraryAvailabilityExecutor") ThreadPoolTaskExecutor executor,
+      MeterRegistry meterRegistry,
+      @Value("${external.library.availability.call-timeout:3s}") Duration callTimeout,
+      @Value("${external.library.availability.max-libraries:30}") int maxLibraries,
+      @Value("${external.library.availability.cache.max-size:50000}") long cacheMaxSize,
+      @Value("${external.library.availability.cache.ttl:3m}") Duration cacheTtl,
+      @Value("${external.library.availability.cache.not-held-ttl:6h}") Duration notHeldTtl) {
+    this.libraryExternalClient = libraryExternalClient;
+    this.libraryDirectoryService = libraryDirectoryService;
+    this.bookMetadataService = bookMetadataService;
+    this.executor = executor;
+    this.callTimeout = callTimeout;
+    this.maxLibraries = maxLibraries;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(cacheMaxSize)
+        .expireAfter(new AvailabilityExpiry(cacheTtl, notHeldTtl))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "libraryAvailability");
+    this.uncheckedCounter = meterRegistry.counter("library.availability.unchecked");
+  }
+
+  /**
+   * 특정 도서관의 도서 소장/대출 가능 여부 (캐시 우선)
+   */
+  public BookAvailability getAvailability(String libCode, String isbn) {
+    String key = libCode + ':' + isbn;
+    BookAvailability availability = cache.getIfPresent(key);
+    if (availability == null) {
+      availability = libraryExternalClient.getBookAvailability(libCode, isbn);
+      cache.put(key, availability);
+    }
+    return availability;
+  }
+
+  /**
+   * 사용자 위치 반경 안의 도서관별 소장/대출 가능 여부를 가까운 순으로 조회
+   *
+   * @return 가까운 도서관부터 최대 max-libraries곳 (제한 시간 안에 조회하지 못한 도서관은 checked=false)
+   */
+  public List<LibraryAvailabilityResponseDto> getAvailabilityNearby(String isbn, double lat,
+      double lng, double radiusKm) {
+    // 도서가 존재하는지 검증 (내부 또는 외부로 확인)
+    bookMetadataService.getMetadata(isbn);
+
+    List<NearbyLibrary> nearest = libraryDirectoryService.findNearby(lat, lng, radiusKm).stream()
+        .map(library -> new NearbyLibrary(library, LibraryGridIndex.distanceKm(lat, lng,
+            library.getLatitude(), library.getLongitude())))
+        .sorted(Comparator.comparingDouble(NearbyLibrary::distanceKm))
+        .limit(maxLibraries)
+        .toList();
+
+    long deadline = System.nanoTime() + callTimeout.toNanos();
+    List<CompletableFuture<BookAvailability>> lookups = nearest.stream()
+        .map(nearby -> lookupAsync(nearby.library().getLibCode(), isbn, deadline))
+        .toList();
+
+    List<LibraryAvailabilityResponseDto> result = new ArrayList<>(nearest.size());
+    int unchecked = 0;
+    for (int i = 0; i < nearest.size(); i++) {
+      BookAvailability availability = lookups.get(i).join();
+      if (availability == null) {
+        unchecked++;
+      }
+      result.add(toDto(nearest.get(i), availability));
+    }
+
+    if (unchecked > 0) {
+      uncheckedCounter.increment(unchecked);
+      log.debug("도서관 소장 여부 일부 확인 실패: {} / {}곳 (isbn={})", unchecked, nearest.size(), isbn);
+    }
+    return result;
+  }
+
+  // 캐시에 있으면 바로, 없으면 풀에서 조회 (실패/시간 초과/풀 포화 시 null)
+  // 시간 초과 시 작업을 취소해 큐에 남은 조회는 실행되지 않고 실행 중인 조회는 인터럽트되며,
+  // 취소 전에 꺼내진 작업도 마감이 지났으면 외부 API를 호출하지 않는다
+  private CompletableFuture<BookAvailability> lookupAsync(String libCode, String isbn,
+      long deadline) {
+    BookAvailability cached = cache.getIfPresent(libCode + ':' + isbn);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    CompletableFuture<BookAvailability> result = new CompletableFuture<>();
+    Future<?> task;
+    try {
+      task = executor.submit(() -> {
+        if (System.nanoTime() - deadline >= 0) {
+          result.complete(null);
+          return;
+        }
+        try {
+          result.complete(getAvailability(libCode, isbn));
+        } catch (RuntimeException e) {
+          result.complete(null);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return result
+        .completeOnTimeout(null, deadline - System.nanoTime(), TimeUnit.NANOSECONDS)
+        .whenComplete((availability, e) -> task.cancel(true));
+  }
+
+  private LibraryAvailabilityResponseDto toDto(NearbyLibrary nearby,
+      BookAvailability availability) {
+    LibraryInfo library = nearby.library();
+    return LibraryAvailabilityResponseDto.builder()
+        .libCode(library.getLibCode())
+        .libraryName(library.getLibraryName())
+        .latitude(library.getLatitude())
+        .longitude(library.getLongitude())
+        .distanceKm(nearby.distanceKm())
+        .checked(availability != null)
+        .hasBook(availability != null && availability.isHasBook())
+        .loanAvailable(availability != null && availability.isLoanAvailable())
+        .build();
+  }
+
+  private record NearbyLibrary(LibraryInfo library, double distanceKm) {
+
+  }
+
+  // 저장/갱신 시점의 결과로 만료 시간 결정 (소장: heldTtl, 미소장: notHeldTtl), 조회는 만료 시간에 영향 없음
+  private record AvailabilityExpiry(Duration heldTtl, Duration notHeldTtl)
+      implements Expiry<String, BookAvailability> {
+
+    @Override
+    public long expireAfterCreate(String key, BookAvailability availability, long currentTime) {
+      return (availability.isHasBook() ? heldTtl : notHeldTtl).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, BookAvailability availability, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, availability, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, BookAvailability availability, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.booksy.domain.book.service;
+
+import com.booksy.domain.book.dto.LibraryTableVersionDto;
+import com.booksy.domain.book.entity.Library;
+import com.booksy.domain.book.external.LibraryExternalClient;
+import com.booksy.domain.book.external.LibraryGridIndex;
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import com.booksy.domain.book.repository.LibraryRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서관 목록 동기화 및 근처 도서관 조회 서비스
+ * <p>
+ * 도서관 정보나루의 전체 도서관 목록을 주기적으로 받아 library 테이블과 비교해 추가/변경/삭제분만 반영하고, 테이블 내용으로 격자 인덱스를 만들어
+ * 메모리에 둔다. 인덱스는 테이블 상태(행 수 + 마지막 변경 시각)가 바뀌었을 때 다시 만든다. 근처 도서관 조회는 이 인덱스만 사용하므로 사용자 요청이 외부 목록 API를 기다리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LibraryDirectoryService {
+
+  private final LibraryRepository libraryRepository;
+  private final LibraryExternalClient libraryExternalClient;
+
+  // 격자 한 칸의 크기 (도 단위)
+  @Value("${external.library.directory.cell-degrees:0.1}")
+  private double cellDegrees;
+
+  // 전체 도서관 위치 인덱스 (테이블이 바뀔 때마다 새 인덱스로 교체, 첫 동기화 전에는 null)
+  private volatile LibraryGridIndex libraryIndex;
+
+  // 현재 인덱스를 만들 때의 테이블 상태 (다른 서버가 반영한 변경도 감지하기 위해 비교)
+  private volatile LibraryTableVersionDto indexedVersion;
+
+  /**
+   * 위도/경도와 반경(km) 이내의 도서관 목록 조회 (첫 동기화가 끝나기 전이면 빈 목록)
+   */
+  public List<LibraryInfo> findNearby(double latitude, double longitude, double radiusKm) {
+    LibraryGridIndex index = libraryIndex;
+    return index != null ? index.findWithin(latitude, longitude, radiusKm) : new ArrayList<>();
+  }
+
+  /**
+   * library 테이블 상태가 현재 인덱스를 만들 때와 다르면 위치 인덱스 재구성 (시작 시 + 동기화 후 + 주기적으로)
+   * <p>
+   * 동기화를 반영한 서버가 아니어도 테이블 상태로 판단하므로, 여러 서버 중 한 곳이 반영한 변경을 나머지 서버도 가져간다.
+   *
+   * @return 재구성했는지 여부
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public synchronized boolean refreshIndex() {
+    LibraryTableVersionDto version = libraryRepository.findTableVersion();
+    if (version.equals(indexedVersion)) {
+      return false;
+    }
+
+    List<LibraryInfo> libraries = libraryRepository.findAll().stream()
+        .map(Library::toInfo)
+        .toList();
+    indexedVersion = version;
+    if (libraries.isEmpty()) {
+      log.info("저장된 도서관 목록이 없어 첫 동기화 후 인덱스를 생성합니다.");
+      return false;
+    }
+    libraryIndex = LibraryGridIndex.build(libraries, cellDegrees);
+    log.info("도서관 위치 인덱스 생성: {}곳", libraryIndex.size());
+    return true;
+  }
+
+  /**
+   * 외부 도서관 목록 전체 조회 (여러 페이지를 받으므로 트랜잭션 밖에서 호출)
+   * <p>
+   * 목록을 끝까지 받지 못하면 예외를 던진다.
+   */
+  public List<LibraryInfo> fetchAll() {
+    return libraryExternalClient.getAllLibraries();
+  }
+
+  /**
+   * 받아 온 도서관 목록을 library 테이블과 비교해 추가/변경/삭제분만 반영
+   * <p>
+   * 빈 목록이 오면 API 이상으로 보고 삭제하지 않는다.
+   */
+  @Transactional
+  public void apply(List<LibraryInfo> fetched) {
+    if (fetched.isEmpty()) {
+      log.warn("도서관 목록 API가 빈 목록을 반환해 동기화를 건너뜁니다.");
+      return;
+    }
+
+    Map<String, Library> stored = new HashMap<>();
+    for (Library library : libraryRepository.findAll()) {
+      stored.put(library.getLibCode(), library);
+    }
+
+    List<Library> added = new ArrayList<>();
+    Set<String> seen = new HashSet<>();
+    int updated = 0;
+    for (LibraryInfo info : fetched) {
+      if (!seen.add(info.getLibCode())) {
+        continue; // 페이지 경계에서 중복으로 내려온 도서관
+      }
+      Library library = stored.remove(info.getLibCode());
+      if (library == null) {
+        added.add(Library.from(info));
+      } else if (library.updateFrom(info)) {
+        updated++; // 변경 감지로 반영 (updated_at 갱신)
+      }
+    }
+
+    libraryRepository.saveAll(added);
+    if (!stored.isEmpty()) {
+      libraryRepository.deleteAllByIdInBatch(stored.keySet());
+    }
+
+    log.info("도서관 목록 동기화: 전체 {}곳, 추가 {}, 변경 {}, 삭제 {}",
+        seen.size(), added.size(), updated, stored.size());
+  }
+}
@@ -0,0 +1,17 @@
+package com.booksy.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 오늘의 독서 알림 대상 조회 결과 dto (사용자 + 플랜 + 책 제목 + 기기 토큰)
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderCandidateDto {
+
+  private Integer userId;
+  private Long planId;
+  private String bookTitle;
+  private String token;
+}
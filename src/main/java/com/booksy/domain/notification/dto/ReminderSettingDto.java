@@ -0,0 +1,18 @@
+package com.booksy.domain.notification.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 독서 알림 예약용 사용자 설정 조회 결과 dto (희망 시각 + 마지막 발송일)
+ */
+@Getter
+@AllArgsConstructor
+public class ReminderSettingDto {
+
+  private Integer userId;
+  private LocalTime reminderTime;
+  private LocalDate lastRemindedOn;
+}
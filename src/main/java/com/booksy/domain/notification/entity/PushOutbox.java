@@ -0,0 +1,80 @@
+package com.booksy.domain.notification.entity;
+
+import com.booksy.domain.notification.type.OutboxStatus;
+import com.booksy.global.common.BaseTimeEntity;
+import com.booksy.global.fcm.PushMessage;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 푸시 발송 대기열 (기기 토큰 한 개당 한 행)
+ * <p>
+ * 알림을 요청한 트랜잭션 안에서 함께 저장되고, 발송 워커가 발송 시각이 된 행을 선점해 보낸다. 발송에 성공한 행은 삭제하며, 일시적으로 실패한 행은
+ * 다음 시도 시각을 늦춰 다시 대기한다.
+ */
+@Entity
+@Table(name = "push_outbox",
+    indexes = @Index(
+        name = "idx_push_outbox_status_next_attempt",
+        columnList = "status, next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PushOutbox extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "user_id")
+  private Integer userId; // 알림 대상 사용자 (토큰 직접 발송이면 null)
+
+  @Column(nullable = false)
+  private String token;
+
+  @Column(nullable = false)
+  private String title;
+
+  @Column(nullable = false, length = 1000)
+  private String body;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private OutboxStatus status;
+
+  @Column(nullable = false)
+  private int attempts; // 지금까지 선점(발송 시도)한 횟수
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt; // 발송(재시도) 가능 시각, 선점 중에는 선점 만료 시각
+
+  @Column(name = "claim_token", length = 36)
+  private String claimToken; // 마지막으로 선점한 회차 ID (결과 반영 시 선점이 아직 유효한지 확인)
+
+  public static PushOutbox pending(Integer userId, String token, String title, String body) {
+    return PushOutbox.builder()
+        .userId(userId)
+        .token(token)
+        .title(title)
+        .body(body)
+        .status(OutboxStatus.PENDING)
+        .nextAttemptAt(LocalDateTime.now())
+        .build();
+  }
+
+  /**
+   * 발송 워커가 선점 (선점 만료 시각까지 다른 워커가 가져가지 않는다)
+   */
+  public void claim(LocalDateTime leaseUntil, String claimToken) {
+    this.attempts++;
+    this.nextAttemptAt = leaseUntil;
+    this.claimToken = claimToken;
+  }
+
+  public PushMessage toMessage() {
+    return new PushMessage(token, title, body);
+  }
+}
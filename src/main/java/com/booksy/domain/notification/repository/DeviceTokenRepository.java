@@ -1,13 +1,74 @@
 package com.booksy.domain.notification.repository;
 
+import com.booksy.domain.notification.dto.ReminderCandidateDto;
+import com.booksy.domain.notification.dto.ReminderSettingDto;
 import com.booksy.domain.notification.entity.DeviceToken;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface DeviceTokenRepository extends JpaRepository<DeviceToken, Long> {
 
   Optional<DeviceToken> findByToken(String token);
 
   List<DeviceToken> findAllByUserId(Integer userId);
+
+  /**
+   * 유효하지 않은 토큰 일괄 삭제 (호출 측 트랜잭션과 무관하게 항상 별도 트랜잭션으로 실행)
+   * <p>
+   * 발송 풀이 가득 차면 배치가 호출 스레드에서 실행되므로, 호출 측의 읽기 전용 트랜잭션에 참여하지 않도록 REQUIRES_NEW로 둔다.
+   *
+   * @return 삭제한 토큰 수
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query("DELETE FROM DeviceToken t WHERE t.token IN :tokens")
+  int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
+
+  /**
+   * 독서 알림 예약 대상 (기기가 등록된 푸시 수신 동의 사용자)의 알림 설정을 스트리밍 조회
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("""
+      SELECT DISTINCT new com.booksy.domain.notification.dto.ReminderSettingDto(
+          u.id, u.reminderTime, u.lastRemindedOn)
+      FROM DeviceToken t
+      JOIN t.user u
+      WHERE u.isPushEnabled = true
+      """)
+  Stream<ReminderSettingDto> streamReminderSettings();
+
+  /**
+   * 발송 회차(claim)가 선점한 사용자 중 주어진 사용자들의 오늘의 독서 알림 대상 (userId, planId, 책 제목, 기기 토큰) 조회
+   * <p>
+   * 오늘이 진행 기간에 포함된 READING 플랜이 있는 사용자의 모든 기기가 대상이다. 사용자별로 묶이고, 같은 사용자 안에서는 최근에 시작한 플랜이
+   * 먼저 오도록 정렬된다. 한 번에 읽는 양은 호출 측이 넘기는 사용자 청크 크기로 제한된다.
+   */
+  @Query("""
+      SELECT new com.booksy.domain.notification.dto.ReminderCandidateDto(
+          u.id, p.id, b.title, t.token)
+      FROM Plan p
+      JOIN p.user u
+      JOIN p.book b
+      JOIN DeviceToken t ON t.user = u
+      WHERE u.id IN :userIds
+        AND u.reminderClaim = :claim
+        AND u.lastRemindedOn = :today
+        AND p.status = com.booksy.domain.plan.type.PlanStatus.READING
+        AND :today BETWEEN p.startDate AND p.endDate
+      ORDER BY u.id, p.startDate DESC, p.id DESC
+      """)
+  List<ReminderCandidateDto> findReminderCandidates(@Param("claim") String claim,
+      @Param("today") LocalDate today, @Param("userIds") Collection<Integer> userIds);
 }
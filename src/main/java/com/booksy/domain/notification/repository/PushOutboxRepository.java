@@ -0,0 +1,73 @@
+package com.booksy.domain.notification.repository;
+
+import com.booksy.domain.notification.entity.PushOutbox;
+import com.booksy.domain.notification.type.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+  /**
+   * 발송 시각이 된 대기 행을 잠그며 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+   * <p>
+   * 다른 워커/서버가 잠근 행은 기다리지 않고 건너뛰므로, 여러 워커가 동시에 호출해도 서로 다른 행을 가져간다.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("""
+      SELECT o
+      FROM PushOutbox o
+      WHERE o.status = com.booksy.domain.notification.type.OutboxStatus.PENDING
+        AND o.nextAttemptAt <= :now
+      ORDER BY o.nextAttemptAt
+      """)
+  List<PushOutbox> findDueForUpdate(@Param("now") LocalDateTime now, Limit limit);
+
+  /**
+   * 선점 회차 ID가 같은 행만 삭제 (선점이 만료되어 다른 워커가 다시 가져간 행은 건드리지 않는다, 아래 결과 반영 쿼리도 동일)
+   *
+   * @return 반영된 행 수
+   */
+  @Modifying
+  @Query("DELETE FROM PushOutbox o WHERE o.id IN :ids AND o.claimToken = :claimToken")
+  int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken);
+
+  @Modifying
+  @Query("""
+      UPDATE PushOutbox o SET o.status = :status
+      WHERE o.id IN :ids AND o.claimToken = :claimToken
+      """)
+  int updateStatusClaimed(@Param("ids") Collection<Long> ids,
+      @Param("claimToken") String claimToken, @Param("status") OutboxStatus status);
+
+  @Modifying
+  @Query("""
+      UPDATE PushOutbox o SET o.nextAttemptAt = :nextAttemptAt
+      WHERE o.id IN :ids AND o.claimToken = :claimToken
+      """)
+  int rescheduleClaimed(@Param("ids") Collection<Long> ids,
+      @Param("claimToken") String claimToken, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+  /**
+   * before 이전에 발송을 포기한 FAILED 행 삭제 (FAILED 행의 next_attempt_at은 마지막 선점의 만료 시각이라 실패 시각과 거의 같다)
+   *
+   * @return 삭제한 행 수
+   */
+  @Modifying
+  @Query("""
+      DELETE FROM PushOutbox o
+      WHERE o.status = com.booksy.domain.notification.type.OutboxStatus.FAILED
+        AND o.nextAttemptAt < :before
+      """)
+  int deleteFailedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,131 @@
+package com.booksy.domain.notification.scheculer;
+
+import com.booksy.domain.notification.entity.PushOutbox;
+import com.booksy.domain.notification.service.PushDispatcher;
+import com.booksy.domain.notification.service.PushOutboxService;
+import com.booksy.global.fcm.PushResult;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 발송 대기열(outbox)을 비우는 워커
+ * <p>
+ * 워커 수(push.outbox.workers)만큼 스레드가 각자 배치를 선점해 발송하고 결과를 반영한다. 대기열이 비면 poll-interval 동안 쉰다.
+ */
+@Slf4j
+@Component
+public class PushOutboxWorker {
+
+  private final PushOutboxService pushOutboxService;
+  private final PushDispatcher pushDispatcher;
+  private final ThreadPoolTaskExecutor executor;
+  private final int workers;
+  private final int batchSize;
+  private final long pollIntervalMs;
+  private final Duration sendTimeout;
+  private final Duration failedRetention;
+
+  private volatile boolean running;
+
+  public PushOutboxWorker(PushOutboxService pushOutboxService, PushDispatcher pushDispatcher,
+      @Qualifier("pushOutboxExecutor") ThreadPoolTaskExecutor executor,
+      @Value("${push.outbox.workers:2}") int workers,
+      @Value("${push.outbox.batch-size:100}") int batchSize,
+      @Value("${push.outbox.poll-interval-ms:1000}") long pollIntervalMs,
+      @Value("${push.outbox.lease-seconds:60}") long leaseSeconds,
+      @Value("${push.outbox.send-timeout-seconds:30}") long sendTimeoutSeconds,
+      @Value("${push.outbox.failed-retention-days:30}") long failedRetentionDays) {
+    if (sendTimeoutSeconds >= leaseSeconds) {
+      throw new IllegalArgumentException(
+          "push.outbox.send-timeout-seconds는 lease-seconds보다 짧아야 합니다: "
+              + sendTimeoutSeconds + " >= " + leaseSeconds);
+    }
+    this.pushOutboxService = pushOutboxService;
+    this.pushDispatcher = pushDispatcher;
+    this.executor = executor;
+    this.workers = workers;
+    this.batchSize = batchSize;
+    this.pollIntervalMs = pollIntervalMs;
+    this.sendTimeout = Duration.ofSeconds(sendTimeoutSeconds);
+    this.failedRetention = Duration.ofDays(failedRetentionDays);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    running = true;
+    for (int i = 0; i < workers; i++) {
+      executor.execute(this::run);
+    }
+    log.info("푸시 발송 워커 시작: {}개", workers);
+  }
+
+  @PreDestroy
+  public void stop() {
+    running = false;
+  }
+
+  /**
+   * 매일 새벽 보관 기간(push.outbox.failed-retention-days)이 지난 FAILED 행 삭제
+   */
+  @Scheduled(cron = "${push.outbox.purge-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+  public void purgeFailed() {
+    try {
+      int purged = pushOutboxService.purgeFailed(failedRetention);
+      if (purged > 0) {
+        log.info("🧹 발송 실패 대기열 정리: {}건", purged);
+      }
+    } catch (RuntimeException e) {
+      log.warn("발송 실패 대기열 정리 실패: {}", e.getMessage());
+    }
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        if (drainOnce() == 0) {
+          Thread.sleep(pollIntervalMs);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("❌ 푸시 발송 대기열 처리 중 오류", e);
+        try {
+          Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * 한 배치 선점 → 발송 → 결과 반영
+   * <p>
+   * 발송은 선점 만료 전에 결과를 반영할 수 있도록 send-timeout까지만 기다리고, 그때까지 끝나지 않은 메시지는 재시도로 돌린다. 끝나지 않은
+   * 발송은 뒤에서 계속 진행되어 성공할 수 있으므로 재시도 시 중복 전달될 수 있다. 선점 만료를 넘겨 발송이 끝날 때까지 기다리면 다른 워커가 같은
+   * 행을 가져가 마찬가지로 중복되므로, 최소 한 번(at-least-once) 전달로 두고 FCM의 중복 알림은 허용한다.
+   *
+   * @return 처리한 행 수
+   */
+  int drainOnce() {
+    List<PushOutbox> rows = pushOutboxService.claim(batchSize);
+    if (rows.isEmpty()) {
+      return 0;
+    }
+    List<PushResult> results = pushDispatcher.dispatchOnce(
+        rows.stream().map(PushOutbox::toMessage).toList(), sendTimeout);
+    pushOutboxService.complete(rows, results);
+    return rows.size();
+  }
+}
@@ -0,0 +1,83 @@
+package com.booksy.domain.notification.scheculer;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 사용자별 다음 독서 알림 시각을 담는 인메모리 대기열
+ * <p>
+ * 발송 시각 오름차순 우선순위 큐라서 매 틱마다 맨 앞의 도래한 항목만 꺼내며, 대기 중인 사용자 수와 무관하게 O(도래 건수 × log n)으로 처리된다.
+ * 사용자당 유효한 항목은 하나이고, 시각 변경/취소 시 기존 항목은 큐에서 지우지 않고 꺼낼 때 무효 항목으로 걸러낸다.
+ */
+public class ReminderQueue {
+
+  private final PriorityQueue<Entry> queue =
+      new PriorityQueue<>(Comparator.comparingLong(Entry::fireAt));
+  private final Map<Integer, Entry> scheduled = new HashMap<>();
+
+  /**
+   * 사용자의 다음 알림 예약 (기존 예약은 대체)
+   */
+  public synchronized void schedule(Integer userId, LocalTime time, long fireAt) {
+    Entry entry = new Entry(userId, time, fireAt);
+    scheduled.put(userId, entry);
+    queue.add(entry);
+
+    // 무효 항목이 쌓이면 유효 항목만으로 재구성
+    if (queue.size() > scheduled.size() * 2 + 1024) {
+      queue.clear();
+      queue.addAll(scheduled.values());
+    }
+  }
+
+  /**
+   * 사용자의 예약 취소
+   */
+  public synchronized void cancel(Integer userId) {
+    scheduled.remove(userId);
+  }
+
+  /**
+   * 전체 예약을 주어진 항목으로 교체
+   */
+  public synchronized void replaceAll(Collection<Entry> entries) {
+    queue.clear();
+    scheduled.clear();
+    for (Entry entry : entries) {
+      scheduled.put(entry.userId(), entry);
+    }
+    queue.addAll(scheduled.values());
+  }
+
+  /**
+   * now(epoch ms) 이전에 도래한 예약을 꺼낸다. (꺼낸 사용자는 다시 예약될 때까지 대기열에서 빠진다)
+   */
+  public synchronized List<Entry> pollDue(long now) {
+    List<Entry> due = new ArrayList<>();
+    while (!queue.isEmpty() && queue.peek().fireAt() <= now) {
+      Entry entry = queue.poll();
+      if (scheduled.get(entry.userId()) == entry) {
+        scheduled.remove(entry.userId());
+        due.add(entry);
+      }
+    }
+    return due;
+  }
+
+  public synchronized int size() {
+    return scheduled.size();
+  }
+
+  /**
+   * 예약 항목 (사용자, 희망 시각, 발송 시각 epoch ms)
+   */
+  public record Entry(Integer userId, LocalTime time, long fireAt) {
+
+  }
+}
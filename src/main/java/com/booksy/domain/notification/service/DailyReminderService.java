@@ -0,0 +1,137 @@
+package com.booksy.domain.notification.service;
+
+import com.booksy.domain.notification.dto.ReminderCandidateDto;
+import com.booksy.domain.notification.repository.DeviceTokenRepository;
+import com.booksy.domain.user.repository.UserRepository;
+import com.booksy.global.fcm.PushMessage;
+import com.booksy.global.fcm.PushStats;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 오늘의 독서 알림 발송 서비스
+ * <p>
+ * 발송 시각이 된 사용자의 그날 발송권을 먼저 선점(claim)한 뒤, 선점한 사용자를 ID 순 키셋 청크로 나눠 청크마다 알림 대상(사용자, 책 제목,
+ * 기기 토큰)을 짧은 읽기 트랜잭션으로 읽고, 트랜잭션이 끝난 뒤 500건씩 묶어 병렬 발송한 다음 다음 청크를 읽는다. 선점 기록이 DB에 남으므로 재시작이나 다중 서버에서도 사용자당 하루 한 번만 발송된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyReminderService {
+
+  private final DeviceTokenRepository deviceTokenRepository;
+  private final UserRepository userRepository;
+  private final PushDispatcher pushDispatcher;
+
+  private static final List<String> BODY_TEMPLATES = List.of(
+    "‘%s’ 오늘도 한 챕터 도전해볼까요?",
+    "‘%s’ 읽기 좋은 시간이에요. 지금 시작해볼까요?",
+    "오늘은 ‘%s’ 먼저 보는 걸로~!",
+    "‘%s’ 오늘 조금이라도 읽어보는 건 어때요?",
+    "‘%s’이 오늘의 작은 휴식이 되어줄 거예요.",
+    "‘%s’ 오늘 10분만 읽고 앱 꺼도 괜찮아요!",
+    "‘%s’ 놓치면 아쉬운 오늘의 한 페이지!",
+    "‘%s’ 오늘의 한 줄 기록도 잊지 마세요.",
+    "‘%s’ 읽는 당신, 너무 멋져요!",
+    "‘%s’ 이제 진짜 결말이 궁금하지 않아요?"
+  );
+
+  private static final String TITLE = "📚 오늘의 독서 추천";
+
+  // 선점 UPDATE 한 번에 넣는 사용자 수 (IN 목록 크기 제한)
+  private static final int CLAIM_CHUNK_SIZE = 1000;
+
+  /**
+   * 사용자들의 해당 날짜 발송권 선점 (DB의 현재 희망 시각이 dueBy까지 도래한 사용자만)
+   *
+   * @param dueBy       선점 기준 시각 (지난 날짜 알림이면 하루의 끝)
+   * @param defaultTime 희망 시각을 정하지 않은 사용자의 발송 시각
+   * @return 선점 회차 ID (선점한 사용자가 없으면 null)
+   */
+  @Transactional
+  public String claim(List<Integer> userIds, LocalDate date, LocalTime dueBy,
+    LocalTime defaultTime) {
+    String claim = UUID.randomUUID().toString();
+    int claimed = 0;
+    for (int from = 0; from < userIds.size(); from += CLAIM_CHUNK_SIZE) {
+      List<Integer> chunk = userIds.subList(from, Math.min(from + CLAIM_CHUNK_SIZE, userIds.size()));
+      claimed += userRepository.claimDailyReminders(chunk, date, dueBy, defaultTime, claim);
+    }
+    return claimed > 0 ? claim : null;
+  }
+
+  /**
+   * cursor 이후 선점 사용자 최대 chunkSize명 중 오늘 읽을 책이 있는 사용자의 모든 기기에 보낼 메시지 조회
+   * <p>
+   * 사용자 ID 키셋 청크 하나만 짧은 읽기 트랜잭션으로 읽는다. 호출 측은 이 청크를 {@link #sendReminders(List, PushStats)}로
+   * 트랜잭션 밖에서 보낸 뒤 다음 청크를 읽으므로, 메모리에는 한 청크의 메시지만 남고 FCM 발송 동안 DB 커넥션을 잡고 있지 않는다.
+   *
+   * @param cursor 직전 청크의 마지막 사용자 ID (처음이면 0)
+   * @return 메시지와 이 청크의 마지막 사용자 ID (더 읽을 사용자가 없으면 null)
+   */
+  @Transactional(readOnly = true)
+  public ReminderChunk loadReminders(String claim, LocalDate today, Integer cursor,
+    int chunkSize) {
+    List<Integer> userIds = userRepository.findClaimedUserIds(claim, today, cursor,
+      Limit.of(chunkSize));
+    if (userIds.isEmpty()) {
+      return null;
+    }
+
+    List<PushMessage> messages = new ArrayList<>();
+    Integer currentUserId = null;
+    Long chosenPlanId = null;
+    String body = null;
+
+    for (ReminderCandidateDto candidate :
+      deviceTokenRepository.findReminderCandidates(claim, today, userIds)) {
+      // 사용자가 바뀌면 가장 최근에 시작한 플랜(정렬상 첫 행)의 책으로 메시지 결정
+      if (!candidate.getUserId().equals(currentUserId)) {
+        currentUserId = candidate.getUserId();
+        chosenPlanId = candidate.getPlanId();
+        body = randomBody(candidate.getBookTitle());
+      }
+      if (!candidate.getPlanId().equals(chosenPlanId)) {
+        continue; // 같은 사용자의 다른 플랜 행은 건너뜀
+      }
+
+      messages.add(new PushMessage(candidate.getToken(), TITLE, body));
+    }
+    return new ReminderChunk(messages, userIds.get(userIds.size() - 1));
+  }
+
+  /**
+   * 알림 메시지를 500건 배치로 나눠 병렬 발송하고 모두 끝날 때까지 대기 (트랜잭션 밖에서 호출)
+   */
+  public void sendReminders(List<PushMessage> messages, PushStats stats) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    stats.add(pushDispatcher.dispatchAsync(messages).join());
+  }
+
+  // 랜덤 메시지 선택
+  private static String randomBody(String bookTitle) {
+    String template = BODY_TEMPLATES.get(ThreadLocalRandom.current().nextInt(BODY_TEMPLATES.size()));
+    return String.format(template, bookTitle);
+  }
+
+  /**
+   * 알림 대상 청크
+   *
+   * @param messages   청크 사용자들에게 보낼 메시지
+   * @param lastUserId 청크의 마지막 사용자 ID (다음 청크의 cursor)
+   */
+  public record ReminderChunk(List<PushMessage> messages, Integer lastUserId) {
+
+  }
+}
@@ -0,0 +1,204 @@
+package com.booksy.domain.notification.service;
+
+import com.booksy.domain.notification.repository.DeviceTokenRepository;
+import com.booksy.global.fcm.PushMessage;
+import com.booksy.global.fcm.PushResult;
+import com.booksy.global.fcm.PushRetryQueue;
+import com.booksy.global.fcm.PushSender;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 푸시 메시지를 FCM 배치 크기(500건) 단위로 나눠 발송 풀에서 병렬 발송하는 서비스
+ * <p>
+ * 발송 풀의 큐가 가득 차면 호출 스레드가 직접 배치를 보내므로, 호출 측은 별도 제어 없이 발송 속도에 맞춰 느려진다. 발송 결과는 에러 코드로
+ * 분류해 유효하지 않은 토큰은 배치 단위로 삭제하고, 일시적 실패는 지수 백오프로 재시도 대기열에 넣는다.
+ */
+@Slf4j
+@Service
+public class PushDispatcher {
+
+  private final PushSender pushSender;
+  private final ThreadPoolTaskExecutor pushExecutor;
+  private final DeviceTokenRepository deviceTokenRepository;
+  private final PushRetryQueue retryQueue;
+  private final int maxAttempts;
+  private final long retryBaseDelayMs;
+
+  private final Counter successCounter;
+  private final Counter failureCounter;
+  private final Counter prunedCounter;
+  private final Counter retriedCounter;
+  private final Counter retryDroppedCounter;
+  private final Timer batchTimer;
+
+  public PushDispatcher(PushSender pushSender,
+      @Qualifier("pushExecutor") ThreadPoolTaskExecutor pushExecutor,
+      DeviceTokenRepository deviceTokenRepository,
+      MeterRegistry meterRegistry,
+      @Value("${push.retry.capacity:10000}") int retryCapacity,
+      @Value("${push.retry.max-attempts:3}") int maxAttempts,
+      @Value("${push.retry.base-delay-ms:2000}") long retryBaseDelayMs) {
+    this.pushSender = pushSender;
+    this.pushExecutor = pushExecutor;
+    this.deviceTokenRepository = deviceTokenRepository;
+    this.retryQueue = new PushRetryQueue(retryCapacity);
+    this.maxAttempts = maxAttempts;
+    this.retryBaseDelayMs = retryBaseDelayMs;
+    this.successCounter = meterRegistry.counter("push.messages", "result", "success");
+    this.failureCounter = meterRegistry.counter("push.messages", "result", "failure");
+    this.prunedCounter = meterRegistry.counter("push.tokens.pruned");
+    this.retriedCounter = meterRegistry.counter("push.retries", "result", "queued");
+    this.retryDroppedCounter = meterRegistry.counter("push.retries", "result", "dropped");
+    this.batchTimer = meterRegistry.timer("push.batch");
+    meterRegistry.gauge("push.retries.pending", retryQueue, PushRetryQueue::size);
+  }
+
+  /**
+   * 메시지를 배치로 나눠 비동기 발송
+   *
+   * @return 모든 배치가 끝나면 입력 순서대로 발송 결과를 돌려주는 future (재시도 대기열에 넣은 메시지는 retryQueued 실패로 포함)
+   */
+  public CompletableFuture<List<PushResult>> dispatchAsync(List<PushMessage> messages) {
+    return dispatchAsync(messages, 1, true, null);
+  }
+
+  /**
+   * 메시지를 배치로 나눠 발송하고 모두 끝날 때까지 대기
+   */
+  public List<PushResult> dispatch(List<PushMessage> messages) {
+    return dispatchAsync(messages).join();
+  }
+
+  /**
+   * 재시도 대기열 없이 한 번만 발송하고 결과 반환 (재시도를 호출 측이 직접 관리하는 경우, 토큰 정리는 동일하게 수행)
+   * <p>
+   * timeout 안에 끝나지 않은 배치는 발송 완료를 기다리지 않고 에러 코드 없는(재시도 가능한) 실패로 돌려준다. 이 배치의 발송은 취소되지 않고
+   * 계속 진행되어 성공할 수도 있으므로, 호출 측이 재시도하면 같은 메시지가 두 번 전달될 수 있다 (최소 한 번 전달).
+   */
+  public List<PushResult> dispatchOnce(List<PushMessage> messages, Duration timeout) {
+    return dispatchAsync(messages, 1, false, timeout).join();
+  }
+
+  /**
+   * 재시도 시각이 된 메시지를 시도 차수별로 묶어 다시 발송
+   */
+  @Scheduled(fixedDelayString = "${push.retry.poll-interval-ms:1000}")
+  public void retryDue() {
+    List<PushRetryQueue.Item> due = retryQueue.drainDue();
+    if (due.isEmpty()) {
+      return;
+    }
+
+    Map<Integer, List<PushMessage>> byAttempt = new TreeMap<>();
+    for (PushRetryQueue.Item item : due) {
+      byAttempt.computeIfAbsent(item.attempt(), a -> new ArrayList<>()).add(item.message());
+    }
+    byAttempt.forEach((attempt, messages) -> dispatchAsync(messages, attempt, true, null));
+    log.info("🔁 푸시 재시도: {}건", due.size());
+  }
+
+  // timeout이 null이면 배치가 끝날 때까지 기다림
+  private CompletableFuture<List<PushResult>> dispatchAsync(List<PushMessage> messages,
+      int attempt, boolean retry, Duration timeout) {
+    List<CompletableFuture<List<PushResult>>> batches = new ArrayList<>();
+    for (int from = 0; from < messages.size(); from += PushSender.MAX_BATCH_SIZE) {
+      List<PushMessage> batch = List.copyOf(
+          messages.subList(from, Math.min(from + PushSender.MAX_BATCH_SIZE, messages.size())));
+      CompletableFuture<List<PushResult>> future =
+          CompletableFuture.supplyAsync(() -> sendBatch(batch, attempt, retry), pushExecutor);
+      if (timeout != null) {
+        future = future.completeOnTimeout(unknownFailures(batch), timeout.toMillis(),
+            TimeUnit.MILLISECONDS);
+      }
+      batches.add(future);
+    }
+
+    return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+        .thenApply(done -> batches.stream()
+            .flatMap(batch -> batch.join().stream())
+            .toList());
+  }
+
+  private List<PushResult> sendBatch(List<PushMessage> batch, int attempt, boolean retry) {
+    List<PushResult> results;
+    try {
+      results = batchTimer.record(() -> pushSender.send(batch));
+    } catch (RuntimeException e) {
+      log.error("❌ 푸시 배치 발송 중 오류: {}건", batch.size(), e);
+      results = unknownFailures(batch);
+    }
+
+    long success = results.stream().filter(PushResult::success).count();
+    successCounter.increment(success);
+    failureCounter.increment(results.size() - success);
+    if (success < results.size()) {
+      return handleFailures(batch, results, attempt, retry);
+    }
+    return results;
+  }
+
+  /**
+   * 실패 결과 처리: 유효하지 않은 토큰은 한 번에 삭제, 일시적 실패는 최대 시도 횟수까지 재시도 대기열에 추가
+   *
+   * @return 재시도 대기열에 실제로 넣은 메시지를 표시한 결과
+   */
+  private List<PushResult> handleFailures(List<PushMessage> batch, List<PushResult> results,
+      int attempt, boolean retry) {
+    List<PushResult> handled = new ArrayList<>(results.size());
+    List<String> deadTokens = new ArrayList<>();
+    for (int i = 0; i < results.size(); i++) {
+      PushResult result = results.get(i);
+      if (result.isDeadToken()) {
+        deadTokens.add(result.token());
+      } else if (retry && result.isRetryable()) {
+        if (attempt < maxAttempts && retryQueue.offer(batch.get(i), attempt + 1, backoff(attempt))) {
+          retriedCounter.increment();
+          result = result.withRetryQueued();
+        } else {
+          retryDroppedCounter.increment();
+        }
+      }
+      handled.add(result);
+    }
+
+    if (!deadTokens.isEmpty()) {
+      try {
+        int pruned = deviceTokenRepository.deleteAllByTokenIn(deadTokens);
+        prunedCounter.increment(pruned);
+        log.info("🧹 유효하지 않은 푸시 토큰 삭제: {}건", pruned);
+      } catch (RuntimeException e) {
+        log.error("❌ 푸시 토큰 정리 실패: {}건", deadTokens.size(), e);
+      }
+    }
+    return handled;
+  }
+
+  // 결과를 알 수 없는 배치 (에러 코드 없는 실패라 재시도 대상, 토큰 삭제 대상 아님)
+  private static List<PushResult> unknownFailures(List<PushMessage> batch) {
+    return batch.stream()
+        .map(message -> PushResult.failure(message.token(), null))
+        .toList();
+  }
+
+  // 기본 지연 × 2^(시도 차수 - 1), 같은 시각에 몰리지 않도록 최대 50% 지터 추가
+  private long backoff(int attempt) {
+    long delay = retryBaseDelayMs << (attempt - 1);
+    return delay + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+  }
+}
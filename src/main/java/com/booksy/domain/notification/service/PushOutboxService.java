@@ -0,0 +1,145 @@
+package com.booksy.domain.notification.service;
+
+import com.booksy.domain.notification.entity.DeviceToken;
+import com.booksy.domain.notification.entity.PushOutbox;
+import com.booksy.domain.notification.repository.DeviceTokenRepository;
+import com.booksy.domain.notification.repository.PushOutboxRepository;
+import com.booksy.domain.notification.type.OutboxStatus;
+import com.booksy.global.fcm.PushResult;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 푸시 발송 대기열(outbox) 서비스
+ * <p>
+ * 알림 요청은 호출 측 트랜잭션 안에서 대기열에 저장만 하고 바로 반환하며, 실제 발송은 발송 워커가 대기열을 선점해 처리한다. 선점은 SKIP LOCKED 잠금과
+ * 선점 만료 시각으로 이뤄지므로 여러 서버가 나눠 처리해도 같은 행을 동시에 보내지 않고, 처리 중 서버가 죽으면 만료 후 다른 워커가 다시 가져간다.
+ * 결과 반영은 선점 회차 ID가 그대로인 행에만 적용되므로, 만료 후 늦게 끝난 워커가 다른 워커의 선점을 덮어쓰지 않는다.
+ * <p>
+ * 전달 보장은 최소 한 번(at-least-once)이다. 발송 제한 시간 안에 결과를 받지 못한 메시지와 결과 반영 전에 선점이 만료된 메시지는 실제로는
+ * 전달되었더라도 다시 발송될 수 있다. 발송을 포기한 FAILED 행은 보관 기간이 지나면 {@link #purgeFailed(Duration)}로 삭제한다.
+ */
+@Slf4j
+@Service
+public class PushOutboxService {
+
+  private final PushOutboxRepository pushOutboxRepository;
+  private final DeviceTokenRepository deviceTokenRepository;
+  private final long leaseSeconds;
+  private final int maxAttempts;
+  private final long baseDelaySeconds;
+
+  public PushOutboxService(PushOutboxRepository pushOutboxRepository,
+      DeviceTokenRepository deviceTokenRepository,
+      @Value("${push.outbox.lease-seconds:60}") long leaseSeconds,
+      @Value("${push.outbox.max-attempts:5}") int maxAttempts,
+      @Value("${push.outbox.base-delay-seconds:10}") long baseDelaySeconds) {
+    this.pushOutboxRepository = pushOutboxRepository;
+    this.deviceTokenRepository = deviceTokenRepository;
+    this.leaseSeconds = leaseSeconds;
+    this.maxAttempts = maxAttempts;
+    this.baseDelaySeconds = baseDelaySeconds;
+  }
+
+  /**
+   * 사용자의 모든 기기로 보낼 알림을 대기열에 저장
+   *
+   * @return 저장한 메시지 수 (등록된 기기가 없으면 0)
+   */
+  @Transactional
+  public int enqueue(Integer userId, String title, String body) {
+    List<PushOutbox> rows = deviceTokenRepository.findAllByUserId(userId).stream()
+        .map(DeviceToken::getToken)
+        .map(token -> PushOutbox.pending(userId, token, title, body))
+        .toList();
+    pushOutboxRepository.saveAll(rows);
+    return rows.size();
+  }
+
+  /**
+   * 특정 기기 토큰으로 보낼 알림을 대기열에 저장
+   */
+  @Transactional
+  public void enqueueToken(String token, String title, String body) {
+    pushOutboxRepository.save(PushOutbox.pending(null, token, title, body));
+  }
+
+  /**
+   * 발송 시각이 된 행을 최대 batchSize개 선점 (한 번에 선점한 행은 같은 선점 회차 ID를 가진다)
+   */
+  @Transactional
+  public List<PushOutbox> claim(int batchSize) {
+    LocalDateTime now = LocalDateTime.now();
+    String claimToken = UUID.randomUUID().toString();
+    List<PushOutbox> rows = pushOutboxRepository.findDueForUpdate(now, Limit.of(batchSize));
+    for (PushOutbox row : rows) {
+      row.claim(now.plusSeconds(leaseSeconds), claimToken);
+    }
+    return rows;
+  }
+
+  /**
+   * 선점한 행의 발송 결과 반영 (rows는 한 번의 claim 결과, results는 rows와 같은 순서)
+   * <p>
+   * 성공한 행은 삭제, 일시적 실패는 지수 백오프로 다음 시도 시각을 늦추고, 유효하지 않은 토큰이나 재시도 횟수를 넘긴 행은 FAILED로 남긴다. 선점이
+   * 만료되어 다른 워커가 다시 선점한 행은 선점 회차 ID가 달라 반영하지 않는다.
+   */
+  @Transactional
+  public void complete(List<PushOutbox> rows, List<PushResult> results) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    String claimToken = rows.get(0).getClaimToken();
+    List<Long> sent = new ArrayList<>();
+    List<Long> failed = new ArrayList<>();
+    Map<Integer, List<Long>> retryByAttempts = new TreeMap<>();
+
+    for (int i = 0; i < rows.size(); i++) {
+      PushOutbox row = rows.get(i);
+      PushResult result = results.get(i);
+      if (result.success()) {
+        sent.add(row.getId());
+      } else if (result.isRetryable() && row.getAttempts() < maxAttempts) {
+        retryByAttempts.computeIfAbsent(row.getAttempts(), a -> new ArrayList<>()).add(row.getId());
+      } else {
+        failed.add(row.getId());
+      }
+    }
+
+    int applied = 0;
+    if (!sent.isEmpty()) {
+      applied += pushOutboxRepository.deleteClaimed(sent, claimToken);
+    }
+    if (!failed.isEmpty()) {
+      applied += pushOutboxRepository.updateStatusClaimed(failed, claimToken, OutboxStatus.FAILED);
+    }
+    LocalDateTime now = LocalDateTime.now();
+    for (Map.Entry<Integer, List<Long>> entry : retryByAttempts.entrySet()) {
+      applied += pushOutboxRepository.rescheduleClaimed(entry.getValue(), claimToken,
+          now.plusSeconds(baseDelaySeconds << (entry.getKey() - 1)));
+    }
+    if (applied < rows.size()) {
+      log.warn("푸시 대기열 선점 만료로 결과 미반영: {} / {}건", rows.size() - applied, rows.size());
+    }
+  }
+
+  /**
+   * 보관 기간이 지난 FAILED 행 삭제
+   *
+   * @return 삭제한 행 수
+   */
+  @Transactional
+  public int purgeFailed(Duration retention) {
+    return pushOutboxRepository.deleteFailedBefore(LocalDateTime.now().minus(retention));
+  }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 public class PushTokenService {
 
   private final DeviceTokenRepository deviceTokenRepository;
+  private final ReminderScheduleService reminderScheduleService;
 
   public void saveOrUpdateToken(User user, String token) {
     deviceTokenRepository.findByToken(token).ifPresentOrElse(
@@ -27,5 +28,6 @@ public class PushTokenService {
         deviceTokenRepository.save(newToken);
       }
     );
+    reminderScheduleService.reschedule(user);
   }
 }
@@ -0,0 +1,166 @@
+package com.booksy.domain.notification.service;
+
+import com.booksy.domain.notification.dto.ReminderSettingDto;
+import com.booksy.domain.notification.repository.DeviceTokenRepository;
+import com.booksy.domain.notification.scheculer.ReminderQueue;
+import com.booksy.domain.user.entity.User;
+import com.booksy.global.fcm.PushStats;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자별 희망 시각에 맞춘 독서 알림 예약 서비스
+ * <p>
+ * 알림 대상 사용자마다 다음 발송 시각을 미리 계산해 인메모리 대기열에 넣고, 매 틱에는 시각이 된 사용자만 꺼내 발송한다. 발송한 사용자는 다음 날
+ * 같은 시각으로 다시 예약된다. 대기열은 시작 시와 매일 자정에 DB 설정으로 재구성하며, 중복 발송과 다른 서버에서 바뀐 설정은 DB 선점 조건으로
+ * 걸러낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderScheduleService {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  // 지난 날짜 알림의 선점 기준 시각 (reminder_time은 초 단위 TIME이라 LocalTime.MAX를 넘기면 00:00으로 반올림되어 아무도 선점되지 않는다)
+  static final LocalTime END_OF_DAY = LocalTime.of(23, 59, 59);
+
+  private final DeviceTokenRepository deviceTokenRepository;
+  private final DailyReminderService dailyReminderService;
+
+  private final ReminderQueue queue = new ReminderQueue();
+
+  // 희망 시각을 정하지 않은 사용자의 발송 시각
+  @Value("${push.reminder.default-time:20:00}")
+  private LocalTime defaultTime;
+
+  // 재시작 등으로 발송 시각을 놓쳤을 때 늦게라도 보내는 허용 범위 (분)
+  @Value("${push.reminder.catch-up-minutes:60}")
+  private long catchUpMinutes;
+
+  // 알림 대상을 한 번에 읽는 사용자 수 (메모리에는 이 사용자들의 메시지만 남는다)
+  @Value("${push.reminder.chunk-users:500}")
+  private int chunkUsers;
+
+  /**
+   * 알림 대상 사용자 전체의 다음 발송 시각을 DB 설정으로 재구성 (시작 시 + 매일 자정)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+  @Transactional(readOnly = true)
+  public void reload() {
+    ZonedDateTime now = ZonedDateTime.now(ZONE);
+    List<ReminderQueue.Entry> entries = new ArrayList<>();
+
+    try (Stream<ReminderSettingDto> settings = deviceTokenRepository.streamReminderSettings()) {
+      settings.forEach(setting -> {
+        LocalTime time = timeOf(setting.getReminderTime());
+        entries.add(new ReminderQueue.Entry(setting.getUserId(), time,
+            nextFireAt(time, setting.getLastRemindedOn(), now)));
+      });
+    }
+
+    queue.replaceAll(entries);
+    log.info("독서 알림 예약 재구성 완료: {}명", queue.size());
+  }
+
+  /**
+   * 사용자의 알림 설정(희망 시각, 기기 등록)이 바뀌었을 때 이 서버의 예약 갱신
+   * <p>
+   * 다른 서버의 대기열은 자정 재구성 전까지 예전 시각을 가지고 있을 수 있으나, 발송권 선점 시 DB의 현재 희망 시각과 수신 여부를 다시 확인하므로
+   * 예전 시각에 보내지 않는다.
+   */
+  public void reschedule(User user) {
+    LocalTime time = timeOf(user.getReminderTime());
+    queue.schedule(user.getId(), time,
+        nextFireAt(time, user.getLastRemindedOn(), ZonedDateTime.now(ZONE)));
+  }
+
+  /**
+   * 발송 시각이 된 사용자에게 알림 발송 후 다음 날로 재예약
+   */
+  public void fireDue() {
+    ZonedDateTime now = ZonedDateTime.now(ZONE);
+    List<ReminderQueue.Entry> due = queue.pollDue(now.toInstant().toEpochMilli());
+    if (due.isEmpty()) {
+      return;
+    }
+
+    // 예정 날짜별로 묶어 발송 (자정 직후 전날 예약이 늦게 꺼내진 경우 전날 알림으로 처리)
+    long catchUpFrom = now.minusMinutes(catchUpMinutes).toInstant().toEpochMilli();
+    Map<LocalDate, List<Integer>> byDate = new TreeMap<>();
+    for (ReminderQueue.Entry entry : due) {
+      LocalDate date = Instant.ofEpochMilli(entry.fireAt()).atZone(ZONE).toLocalDate();
+      queue.schedule(entry.userId(), entry.time(), nextFireAt(entry.time(), date, now));
+      if (entry.fireAt() >= catchUpFrom) {
+        byDate.computeIfAbsent(date, d -> new ArrayList<>()).add(entry.userId());
+      }
+    }
+
+    // 선점 시 DB의 현재 희망 시각으로 다시 확인 (다른 서버에서 바뀐 시각은 이 서버 대기열에 반영되지 않았을 수 있음)
+    byDate.forEach((date, userIds) -> {
+      LocalTime dueBy = date.isBefore(now.toLocalDate()) ? END_OF_DAY : now.toLocalTime();
+      String claim = dailyReminderService.claim(userIds, date, dueBy, defaultTime);
+      if (claim != null) {
+        sendClaimed(claim, date);
+      }
+    });
+  }
+
+  /**
+   * 선점한 사용자에게 사용자 청크 단위로 읽고 보내기를 반복 (청크마다 별도 읽기 트랜잭션, 발송은 트랜잭션 밖)
+   */
+  private void sendClaimed(String claim, LocalDate date) {
+    long startedAt = System.nanoTime();
+    PushStats stats = new PushStats();
+
+    Integer cursor = 0;
+    DailyReminderService.ReminderChunk chunk;
+    while ((chunk = dailyReminderService.loadReminders(claim, date, cursor, chunkUsers)) != null) {
+      dailyReminderService.sendReminders(chunk.messages(), stats);
+      cursor = chunk.lastUserId();
+    }
+
+    if (stats.getSent() > 0) {
+      long elapsedMs = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+      log.info("📨 오늘의 독서 알림 발송 완료: {}, {}ms, {}건/초",
+          stats, elapsedMs, stats.getSent() * 1000 / elapsedMs);
+    }
+  }
+
+  /**
+   * 다음 발송 시각 (epoch ms)
+   * <p>
+   * 오늘 아직 발송하지 않았고 오늘 희망 시각이 허용 범위 안에 있으면 오늘(지났으면 즉시), 아니면 내일 희망 시각
+   */
+  private long nextFireAt(LocalTime time, LocalDate lastRemindedOn, ZonedDateTime now) {
+    LocalDate today = now.toLocalDate();
+    ZonedDateTime todayFire = today.atTime(time).atZone(ZONE);
+    boolean sentToday = lastRemindedOn != null && !lastRemindedOn.isBefore(today);
+
+    ZonedDateTime fireAt = !sentToday && !todayFire.isBefore(now.minusMinutes(catchUpMinutes))
+        ? todayFire
+        : today.plusDays(1).atTime(time).atZone(ZONE);
+    return fireAt.toInstant().toEpochMilli();
+  }
+
+  private LocalTime timeOf(LocalTime reminderTime) {
+    return reminderTime != null ? reminderTime : defaultTime;
+  }
+}
@@ -0,0 +1,6 @@
+package com.booksy.domain.notification.type;
+
+public enum OutboxStatus {
+  PENDING,   // 발송 대기 (재시도 대기 포함)
+  FAILED     // 발송 포기 (유효하지 않은 토큰, 재시도 횟수 초과)
+}
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -31,7 +32,8 @@ public class KakaoOAuthService {
 
   private final UserRepository userRepository;
   private final JwtTokenProvider jwtTokenProvider;
-  private final RestTemplate restTemplate = new RestTemplate();
+  @Qualifier("oauthRestTemplate")
+  private final RestTemplate restTemplate;
 
   private OAuthUserInfo getUserInfoFromKakao(String accessToken) {
     String url = "https://kapi.kakao.com/v2/user/me";
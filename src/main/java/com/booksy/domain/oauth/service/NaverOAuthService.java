@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -34,7 +35,8 @@ public class NaverOAuthService {
 
   private final UserRepository userRepository;
   private final JwtTokenProvider jwtTokenProvider;
-  private final RestTemplate restTemplate = new RestTemplate();
+  @Qualifier("oauthRestTemplate")
+  private final RestTemplate restTemplate;
 
   private OAuthUserInfo getUserInfoFromNaver(String accessToken) {
     String url = "https://openapi.naver.com/v1/nid/me";
@@ -78,16 +78,20 @@ public class PlanController {
   }
 
   /**
-   * 플랜 목록 상태별 조회 API
+   * 플랜 목록 상태별 조회 API (planId 오름차순)
    *
    * @param status 플랜 상태 (예: READING, COMPLETED)
+   * @param cursor 이전 페이지의 마지막 planId (첫 페이지는 생략)
+   * @param size   페이지 크기 (생략 시 전체 조회)
    * @return 해당 상태에 해당하는 플랜 목록
    */
   @GetMapping
   public ResponseEntity<List<PlanListResponseDto>> getPlansByStatus(
-    @RequestParam PlanStatus status
+    @RequestParam PlanStatus status,
+    @RequestParam(required = false) Long cursor,
+    @RequestParam(required = false) Integer size
   ) {
-    List<PlanListResponseDto> plans = planService.getPlansByStatus(status);
+    List<PlanListResponseDto> plans = planService.getPlansByStatus(status, cursor, size);
     return ResponseEntity.ok(plans);
   }
 
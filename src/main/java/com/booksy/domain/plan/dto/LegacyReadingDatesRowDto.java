@@ -0,0 +1,15 @@
+package com.booksy.domain.plan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 구버전 JSON 독서 예정일 이관용 프로젝션 (엔티티를 읽지 않고 id와 JSON만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class LegacyReadingDatesRowDto {
+
+  private Long planId;
+  private String readingDates;
+}
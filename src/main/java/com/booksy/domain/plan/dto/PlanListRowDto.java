@@ -0,0 +1,29 @@
+package com.booksy.domain.plan.dto;
+
+import com.booksy.domain.plan.entity.ReadingSchedule;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상태별 플랜 목록 조회용 프로젝션 (플랜 + 도서 컬럼 + 스크랩 수를 한 번에 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class PlanListRowDto {
+
+  private Long planId;
+  private String isbn;
+  private String title;
+  private String author;
+  private String publisher;
+  private String imageUrl;
+  private Integer totalPage;
+
+  private LocalDate startDate;
+  private LocalDate endDate;
+  private Integer currentPage;
+  private ReadingSchedule readingSchedule;
+
+  private Long scrapCount; // 스크랩 개수 (COMPLETED 목록에서만 사용)
+}
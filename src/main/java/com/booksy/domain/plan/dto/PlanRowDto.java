@@ -0,0 +1,21 @@
+package com.booksy.domain.plan.dto;
+
+import com.booksy.domain.plan.type.PlanStatus;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 플랜 요약 목록(PlanResponseDto) 조회용 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class PlanRowDto {
+
+  private Long planId;
+  private String bookTitle;
+  private String imageUrl;
+  private PlanStatus status;
+  private LocalDate startDate;
+  private LocalDate endDate;
+}
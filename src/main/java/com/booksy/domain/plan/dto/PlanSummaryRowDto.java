@@ -0,0 +1,27 @@
+package com.booksy.domain.plan.dto;
+
+import com.booksy.domain.plan.entity.ReadingSchedule;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 오늘 읽을 책/캘린더/날짜별 플랜 요약(PlanSummaryResponseDto) 조회용 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class PlanSummaryRowDto {
+
+  private Long planId;
+  private String bookTitle;
+  private String author;
+  private String imageUrl;
+  private Integer totalPage;
+
+  private LocalDate startDate;
+  private LocalDate endDate;
+  private Integer currentPage;
+  private Integer dailyPages;
+  private Integer dailyMinutes;
+  private ReadingSchedule readingSchedule; // 오늘 독서일 여부 확인용
+}
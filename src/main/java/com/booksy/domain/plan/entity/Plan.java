@@ -5,6 +5,7 @@ import com.booksy.domain.plan.type.PlanStatus;
 import com.booksy.domain.user.entity.User;
 import com.booksy.global.common.BaseTimeEntity;
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -59,8 +60,11 @@ public class Plan extends BaseTimeEntity {
   @Column(name = "is_free_plan")
   private Boolean isFreePlan;
 
+  @Embedded
+  private ReadingSchedule readingSchedule; // 독서 예정일 (기준일 + 비트맵)
+
   @Column(name = "reading_dates", columnDefinition = "TEXT")
-  private String readingDates; // LocalDate 리스트를 JSON으로 변환해서 저장
+  private String readingDates; // (구버전) JSON 독서 예정일, readingSchedule로 이관 후 null
 
   // 하루 권장 독서 페이지 수
   @Column(name = "daily_pages")
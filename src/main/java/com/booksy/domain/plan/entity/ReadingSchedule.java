@@ -0,0 +1,136 @@
+package com.booksy.domain.plan.entity;
+
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 플랜의 독서 예정일 (기준일 + 일 단위 비트맵)
+ * <p>
+ * 기준일(첫 독서일)로부터 n일째가 독서일이면 n번째 비트가 켜진다. 특정 날짜 포함 여부는 비트 하나, 몇 번째 독서일인지는 앞쪽 비트 수를 세어
+ * 계산하므로 날짜 목록을 매번 파싱할 필요가 없다. 값 객체이므로 변경 시 새 인스턴스로 교체한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReadingSchedule {
+
+  // 4096일(약 11년)까지 표현
+  public static final int MAX_DAYS = 4096;
+
+  @Column(name = "reading_base_date")
+  private LocalDate baseDate;
+
+  @Column(name = "reading_days", length = MAX_DAYS / 8)
+  private byte[] days;
+
+  private ReadingSchedule(LocalDate baseDate, BitSet bits) {
+    this.baseDate = baseDate;
+    this.days = bits.toByteArray();
+  }
+
+  /**
+   * 날짜 목록으로 일정 생성 (비어 있으면 null)
+   */
+  public static ReadingSchedule of(Collection<LocalDate> dates) {
+    if (dates == null || dates.isEmpty()) {
+      return null;
+    }
+
+    long base = dates.stream().mapToLong(LocalDate::toEpochDay).min().getAsLong();
+    BitSet bits = new BitSet();
+    for (LocalDate date : dates) {
+      bits.set(offset(base, date.toEpochDay()));
+    }
+    return new ReadingSchedule(LocalDate.ofEpochDay(base), bits);
+  }
+
+  /**
+   * 해당 날짜가 독서일인지 여부
+   */
+  public boolean contains(LocalDate date) {
+    long offset = date.toEpochDay() - baseDate.toEpochDay();
+    if (offset < 0 || offset >= (long) days.length * 8) {
+      return false;
+    }
+    int i = (int) offset;
+    return (days[i >>> 3] & (1 << (i & 7))) != 0;
+  }
+
+  /**
+   * 해당 날짜가 몇 번째 독서일인지 (1부터, 독서일이 아니면 0)
+   */
+  public int indexOf(LocalDate date) {
+    if (!contains(date)) {
+      return 0;
+    }
+    int offset = (int) (date.toEpochDay() - baseDate.toEpochDay());
+    int count = 0;
+    for (int i = 0; i < offset >>> 3; i++) {
+      count += Integer.bitCount(days[i] & 0xFF);
+    }
+    count += Integer.bitCount(days[offset >>> 3] & ((1 << (offset & 7)) - 1));
+    return count + 1;
+  }
+
+  /**
+   * 전체 독서일 수
+   */
+  public int size() {
+    int count = 0;
+    for (byte b : days) {
+      count += Integer.bitCount(b & 0xFF);
+    }
+    return count;
+  }
+
+  /**
+   * 마지막 독서일
+   */
+  public LocalDate lastDate() {
+    return baseDate.plusDays(BitSet.valueOf(days).length() - 1);
+  }
+
+  /**
+   * 주어진 날짜들을 독서일로 추가한 새 일정 (기준일 이후 날짜만 추가)
+   */
+  public ReadingSchedule plus(Collection<LocalDate> dates) {
+    long base = baseDate.toEpochDay();
+    BitSet bits = BitSet.valueOf(days);
+    for (LocalDate date : dates) {
+      if (!date.isBefore(baseDate)) {
+        bits.set(offset(base, date.toEpochDay()));
+      }
+    }
+    return new ReadingSchedule(baseDate, bits);
+  }
+
+  /**
+   * 독서일 목록 (오름차순)
+   */
+  public List<LocalDate> toDates() {
+    BitSet bits = BitSet.valueOf(days);
+    List<LocalDate> result = new ArrayList<>(bits.cardinality());
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      result.add(baseDate.plusDays(i));
+    }
+    return result;
+  }
+
+  private static int offset(long base, long epochDay) {
+    long offset = epochDay - base;
+    if (offset >= MAX_DAYS) {
+      throw new ApiException(ErrorCode.INVALID_PLAN_PERIOD);
+    }
+    return (int) offset;
+  }
+}
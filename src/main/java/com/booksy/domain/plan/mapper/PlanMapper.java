@@ -4,10 +4,14 @@ import com.booksy.domain.book.entity.Book;
 import com.booksy.domain.plan.dto.PlanCreateRequestDto;
 import com.booksy.domain.plan.dto.PlanDetailResponseDto;
 import com.booksy.domain.plan.dto.PlanListResponseDto;
+import com.booksy.domain.plan.dto.PlanListRowDto;
 import com.booksy.domain.plan.dto.PlanPreviewResponseDto;
 import com.booksy.domain.plan.dto.PlanResponseDto;
+import com.booksy.domain.plan.dto.PlanRowDto;
 import com.booksy.domain.plan.dto.PlanSummaryResponseDto;
+import com.booksy.domain.plan.dto.PlanSummaryRowDto;
 import com.booksy.domain.plan.entity.Plan;
+import com.booksy.domain.plan.entity.ReadingSchedule;
 import com.booksy.domain.plan.type.PlanStatus;
 import com.booksy.domain.readinglog.dto.TimeRecordResponseDto;
 import com.booksy.domain.readinglog.repository.ReadingLogRepository;
@@ -88,30 +92,46 @@ public class PlanMapper {
   }
 
   /**
-   * Plan 엔티티를 메인 요약 응답 Dto로 변환
+   * 플랜 목록 프로젝션을 플랜 요약 응답 DTO로 변환
    *
-   * @param plan Plan 엔티티
+   * @param row 플랜 + 도서 프로젝션
+   * @return PlanResponseDto
+   */
+  public PlanResponseDto toResponseDto(PlanRowDto row) {
+    return PlanResponseDto.builder()
+      .id(row.getPlanId())
+      .bookTitle(row.getBookTitle())
+      .imageUrl(row.getImageUrl())
+      .status(row.getStatus())
+      .startDate(row.getStartDate())
+      .endDate(row.getEndDate())
+      .build();
+  }
+
+  /**
+   * 플랜 요약 프로젝션을 메인 요약 응답 Dto로 변환
+   *
+   * @param row 플랜 + 도서 프로젝션
    * @return PlanSummaryResponseDto (오늘 읽을 책 정보 요약)
    */
-  public PlanSummaryResponseDto toSummaryDto(Plan plan) {
-    Book book = plan.getBook();
-    int current = plan.getCurrentPage();
-    int total = book.getTotalPage();
+  public PlanSummaryResponseDto toSummaryDto(PlanSummaryRowDto row) {
+    int current = row.getCurrentPage();
+    int total = row.getTotalPage();
     int progress = (total == 0) ? 0 : (int) Math.round((double) current / total * 100);
 
     return PlanSummaryResponseDto.builder()
-      .planId(plan.getId())
-      .bookTitle(book.getTitle())
-      .author(book.getAuthor())
-      .imageUrl(book.getImageUrl())
-      .startDate(plan.getStartDate())
-      .endDate(plan.getEndDate())
+      .planId(row.getPlanId())
+      .bookTitle(row.getBookTitle())
+      .author(row.getAuthor())
+      .imageUrl(row.getImageUrl())
+      .startDate(row.getStartDate())
+      .endDate(row.getEndDate())
       .currentPage(current)
       .totalPage(total)
       .progressRate(progress)
       .totalReadingTime(null)
-      .dailyPages(plan.getDailyPages())
-      .dailyMinutes(plan.getDailyMinutes())
+      .dailyPages(row.getDailyPages())
+      .dailyMinutes(row.getDailyMinutes())
       .build();
   }
 
@@ -146,7 +166,7 @@ public class PlanMapper {
       .status(plan.getStatus())
       .todayReadingTime(timeDto.getTodayDuration())
       .totalReadingTime(timeDto.getTotalDuration())
-      .readingDates(parseReadingDates(plan.getReadingDates()))
+      .readingDates(toDateStrings(plan.getReadingSchedule()))
       .build();
   }
 
@@ -172,42 +192,41 @@ public class PlanMapper {
       .endDate(isFree ? null : readingDates.get(readingDates.size() - 1))
       .isFreePlan(isFree)
       .currentPage(0)
-      .readingDates(convertListToJson(readingDates))
+      .readingSchedule(ReadingSchedule.of(readingDates))
       .dailyPages(dto.getDailyPages())
       .dailyMinutes(dto.getDailyMinutes())
       .build();
   }
 
   /**
-   * 플랜 엔티티와 상태값, 스크랩 수치를 받아 통합 응답 DTO로 변환한다.
+   * 플랜 목록 프로젝션과 상태값을 받아 통합 응답 DTO로 변환한다.
    *
    * 상태값에 따라 필요한 필드를 조건적으로 포함한다:
    * - WISHLIST, ABANDONED: 이미지, 제목, 저자, 출판사
    * - READING: 시작/종료 날짜, 오늘 인덱스, 진행률
    * - COMPLETED: 시작/종료 날짜, 별점, 스크랩 개수
    *
-   * @param plan       변환할 플랜 엔티티
-   * @param status     현재 플랜 상태 (PlanStatus)
-   * @param scrapCount COMPLETED 상태에서 사용되는 스크랩 개수 (기타 상태에서는 0으로 전달)
+   * @param row    플랜 + 도서 + 스크랩 수 프로젝션
+   * @param status 현재 플랜 상태 (PlanStatus)
    * @return 상태에 맞게 구성된 PlanListResponseDto
    */
-  public PlanListResponseDto toListDto(Plan plan, PlanStatus status, int scrapCount) {
+  public PlanListResponseDto toListDto(PlanListRowDto row, PlanStatus status) {
     PlanListResponseDto.PlanListResponseDtoBuilder builder = PlanListResponseDto.builder()
-      .planId(plan.getId())
-      .isbn(plan.getBook().getIsbn())
-      .title(plan.getBook().getTitle())
-      .author(plan.getBook().getAuthor())
-      .publisher(plan.getBook().getPublisher())
-      .imageUrl(plan.getBook().getImageUrl());
+      .planId(row.getPlanId())
+      .isbn(row.getIsbn())
+      .title(row.getTitle())
+      .author(row.getAuthor())
+      .publisher(row.getPublisher())
+      .imageUrl(row.getImageUrl());
 
     if (status == PlanStatus.READING || status == PlanStatus.COMPLETED) {
-      builder.startDate(plan.getStartDate())
-        .endDate(plan.getEndDate());
+      builder.startDate(row.getStartDate())
+        .endDate(row.getEndDate());
     }
 
     if (status == PlanStatus.READING || status == PlanStatus.ABANDONED) {
-      builder.todayIndex(calculateTodayIndex(plan))
-        .progressPercent(calculateProgress(plan));
+      builder.todayIndex(calculateTodayIndex(row.getReadingSchedule()))
+        .progressPercent(calculateProgress(row.getTotalPage(), row.getCurrentPage()));
     } else if (status == PlanStatus.COMPLETED) {
       builder.progressPercent(100);
     }
@@ -215,49 +234,23 @@ public class PlanMapper {
     if (status == PlanStatus.COMPLETED) {
       builder
 //        .rating(plan.getRating())
-        .scrapCount(scrapCount);
+        .scrapCount(row.getScrapCount().intValue());
     }
 
     return builder.build();
   }
 
   /**
-   * readingDates(JSON 문자열)에서 오늘 날짜가 몇 번째인지 계산
+   * 독서 일정에서 오늘 날짜가 몇 번째 독서일인지 계산 (독서일이 아니면 0)
    */
-  private int calculateTodayIndex(Plan plan) {
-    String readingDatesJson = plan.getReadingDates();
-    if (readingDatesJson == null || readingDatesJson.isBlank()) {
-      return 0;
-    }
-
-    try {
-      List<LocalDate> dates = objectMapper.readValue(
-        readingDatesJson,
-        new TypeReference<>() {
-        }
-      );
-
-      LocalDate today = LocalDate.now();
-      for (int i = 0; i < dates.size(); i++) {
-        if (dates.get(i).equals(today)) {
-          return i + 1;
-        }
-      }
-
-    } catch (Exception e) {
-//      log.warn("readingDates 파싱 실패 - planId: {}, 원본: {}", plan.getId(), readingDatesJson, e);
-    }
-
-    return 0;
+  private int calculateTodayIndex(ReadingSchedule schedule) {
+    return schedule != null ? schedule.indexOf(LocalDate.now()) : 0;
   }
 
   /**
    * 전체 페이지 대비 현재 페이지를 기준으로 진행률(%) 계산
    */
-  private int calculateProgress(Plan plan) {
-    Integer total = plan.getBook().getTotalPage();
-    Integer current = plan.getCurrentPage();
-
+  private int calculateProgress(Integer total, Integer current) {
     if (total == null || total <= 0 || current == null || current <= 0) {
       return 0;
     }
@@ -267,23 +260,20 @@ public class PlanMapper {
 
 
   /**
-   * 리스트(Object)를 JSON 문자열로 변환
-   *
-   * @param list 변환할 리스트
-   * @return JSON 문자열
+   * 독서 일정을 날짜 문자열 목록으로 변환 (yyyy-MM-dd)
    */
-  public String convertListToJson(Object list) {
-    if (list == null) {
-      return null;
-    }
-    try {
-      return objectMapper.writeValueAsString(list);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeException("JSON 변환 실패", e);
+  private List<String> toDateStrings(ReadingSchedule schedule) {
+    if (schedule == null) {
+      return Collections.emptyList();
     }
+    return schedule.toDates().stream()
+      .map(LocalDate::toString)
+      .toList();
   }
 
-
+  /**
+   * (구버전) JSON 형식 독서 예정일 파싱
+   */
   public List<String> parseReadingDates(String json) {
     try {
       return objectMapper.readValue(json, new TypeReference<>() {
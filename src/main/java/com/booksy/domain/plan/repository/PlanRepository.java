@@ -1,11 +1,16 @@
 package com.booksy.domain.plan.repository;
 
+import com.booksy.domain.plan.dto.LegacyReadingDatesRowDto;
+import com.booksy.domain.plan.dto.PlanListRowDto;
+import com.booksy.domain.plan.dto.PlanRowDto;
+import com.booksy.domain.plan.dto.PlanSummaryRowDto;
 import com.booksy.domain.plan.entity.Plan;
 import com.booksy.domain.plan.type.PlanStatus;
 import com.booksy.domain.user.entity.User;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -16,23 +21,9 @@ import org.springframework.data.repository.query.Param;
  */
 public interface PlanRepository extends JpaRepository<Plan, Long> {
 
-  // 전체 플랜 조회
-  List<Plan> findAllByUser(User user);
-
-  // 상태별 플랜 조회
-  List<Plan> findAllByUserAndStatus(User user, PlanStatus status);
-
-  // 오늘 날짜에 해당하는 READING 상태 플랜 조회 (오늘 읽을 책)
-  List<Plan> findByUserAndStatusAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-    User user, PlanStatus status, LocalDate today1, LocalDate today2);
-
   // 플랜 상세 조회
   Optional<Plan> findByIdAndUser(Long planId, User user);
 
-  // 특정 날짜가 플랜 진행 기간에 포함되는 경우 조회 (user 기준)
-  List<Plan> findAllByUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-    User user, LocalDate date1, LocalDate date2);
-
   // 다중 플랜 삭제
   @Modifying
   @Query("DELETE FROM Plan p WHERE p.id IN :ids AND p.user = :user")
@@ -72,16 +63,117 @@ public interface PlanRepository extends JpaRepository<Plan, Long> {
   // 위시리스트 삭제를 위한 특정 플랜 조회
   Optional<Plan> findByUserAndBookIsbnAndStatus(User user, String isbn, PlanStatus status);
 
+  // 구버전 JSON 독서 예정일이 남아 있는 플랜의 id와 JSON을 id 순으로 조회 (비트맵 이관용, cursor 이후부터)
+  @Query("""
+    SELECT new com.booksy.domain.plan.dto.LegacyReadingDatesRowDto(p.id, p.readingDates)
+    FROM Plan p
+    WHERE p.readingDates IS NOT NULL
+      AND p.readingSchedule.baseDate IS NULL
+      AND p.id > :cursor
+    ORDER BY p.id ASC
+    """)
+  List<LegacyReadingDatesRowDto> findLegacyReadingDates(@Param("cursor") Long cursor, Limit limit);
+
+  // 비트맵 일정 저장 후 JSON 컬럼 비움 (벌크 UPDATE라 updated_at은 바뀌지 않는다, 완독 시각으로 쓰이므로 건드리면 안 됨)
+  @Modifying
+  @Query("""
+    UPDATE Plan p
+    SET p.readingSchedule.baseDate = :baseDate,
+        p.readingSchedule.days = :days,
+        p.readingDates = NULL
+    WHERE p.id = :planId
+    """)
+  int migrateReadingSchedule(@Param("planId") Long planId, @Param("baseDate") LocalDate baseDate,
+      @Param("days") byte[] days);
+
+  // 상태별 플랜 목록 (도서 컬럼 포함, 스크랩 수는 0, planId 오름차순 keyset 페이지네이션)
+  @Query("""
+    SELECT new com.booksy.domain.plan.dto.PlanListRowDto(
+        p.id, b.isbn, b.title, b.author, b.publisher, b.imageUrl, b.totalPage,
+        p.startDate, p.endDate, p.currentPage, p.readingSchedule, 0L)
+    FROM Plan p
+    JOIN p.book b
+    WHERE p.user.id = :userId
+      AND p.status = :status
+      AND (:cursor IS NULL OR p.id > :cursor)
+    ORDER BY p.id ASC
+    """)
+  List<PlanListRowDto> findListRowsByUserIdAndStatus(@Param("userId") Integer userId,
+    @Param("status") PlanStatus status, @Param("cursor") Long cursor, Limit limit);
+
+  // 완독 플랜 목록 (도서 컬럼 + 스크랩 수 포함, planId 오름차순 keyset 페이지네이션)
   @Query("""
-    SELECT p FROM Plan p
-    JOIN FETCH p.book
-    WHERE p.user = :user
+    SELECT new com.booksy.domain.plan.dto.PlanListRowDto(
+        p.id, b.isbn, b.title, b.author, b.publisher, b.imageUrl, b.totalPage,
+        p.startDate, p.endDate, p.currentPage, p.readingSchedule,
+        (SELECT COUNT(r) FROM ReadingLog r
+          WHERE r.plan = p AND r.contentType = com.booksy.domain.readinglog.type.ContentType.SCRAP)
+    )
+    FROM Plan p
+    JOIN p.book b
+    WHERE p.user.id = :userId
+      AND p.status = 'COMPLETED'
+      AND (:cursor IS NULL OR p.id > :cursor)
+    ORDER BY p.id ASC
+    """)
+  List<PlanListRowDto> findCompletedListRowsByUserId(@Param("userId") Integer userId,
+    @Param("cursor") Long cursor, Limit limit);
+
+  // ==============================
+  // 📌 목록 화면용 프로젝션 쿼리 (도서 컬럼까지 한 번에 조회)
+  // ==============================
+
+  // 전체 플랜 요약 목록
+  @Query("""
+    SELECT new com.booksy.domain.plan.dto.PlanRowDto(
+        p.id, b.title, b.imageUrl, p.status, p.startDate, p.endDate)
+    FROM Plan p
+    JOIN p.book b
+    WHERE p.user.id = :userId
+    """)
+  List<PlanRowDto> findRowsByUserId(@Param("userId") Integer userId);
+
+  // 오늘 날짜가 진행 기간(startDate ~ endDate)에 포함된 READING 플랜 요약 목록
+  @Query("""
+    SELECT new com.booksy.domain.plan.dto.PlanRowDto(
+        p.id, b.title, b.imageUrl, p.status, p.startDate, p.endDate)
+    FROM Plan p
+    JOIN p.book b
+    WHERE p.user.id = :userId
       AND p.status = 'READING'
-      AND :today BETWEEN p.startDate AND p.endDate
-    ORDER BY p.startDate DESC
+      AND p.startDate <= :today
+      AND p.endDate >= :today
     """)
-  List<Plan> findTodayReadingPlans(@Param("user") User user, @Param("today") LocalDate today);
+  List<PlanRowDto> findReadingRowsByUserId(@Param("userId") Integer userId,
+    @Param("today") LocalDate today);
 
-}
+  // 진행 기간이 [from, to] 구간과 겹치는 플랜 요약 목록 (캘린더/날짜별 조회)
+  @Query("""
+    SELECT new com.booksy.domain.plan.dto.PlanSummaryRowDto(
+        p.id, b.title, b.author, b.imageUrl, b.totalPage,
+        p.startDate, p.endDate, p.currentPage, p.dailyPages, p.dailyMinutes, p.readingSchedule)
+    FROM Plan p
+    JOIN p.book b
+    WHERE p.user.id = :userId
+      AND p.startDate <= :to
+      AND p.endDate >= :from
+    """)
+  List<PlanSummaryRowDto> findSummaryRowsInPeriod(@Param("userId") Integer userId,
+    @Param("from") LocalDate from, @Param("to") LocalDate to);
 
+  // 독서 일정 범위(첫 독서일 ~ 종료일)에 오늘이 포함된 READING 플랜 요약 목록 (오늘 독서일 여부는 비트맵으로 확인)
+  @Query("""
+    SELECT new com.booksy.domain.plan.dto.PlanSummaryRowDto(
+        p.id, b.title, b.author, b.imageUrl, b.totalPage,
+        p.startDate, p.endDate, p.currentPage, p.dailyPages, p.dailyMinutes, p.readingSchedule)
+    FROM Plan p
+    JOIN p.book b
+    WHERE p.user.id = :userId
+      AND p.status = 'READING'
+      AND p.readingSchedule.baseDate <= :today
+      AND p.endDate >= :today
+    """)
+  List<PlanSummaryRowDto> findScheduledSummaryRows(@Param("userId") Integer userId,
+    @Param("today") LocalDate today);
 
+}
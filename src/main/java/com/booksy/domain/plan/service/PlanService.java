@@ -5,17 +5,18 @@ import com.booksy.domain.book.service.BookService;
 import com.booksy.domain.plan.dto.PlanCreateRequestDto;
 import com.booksy.domain.plan.dto.PlanDetailResponseDto;
 import com.booksy.domain.plan.dto.PlanListResponseDto;
+import com.booksy.domain.plan.dto.PlanListRowDto;
 import com.booksy.domain.plan.dto.PlanPreviewResponseDto;
 import com.booksy.domain.plan.dto.PlanResponseDto;
 import com.booksy.domain.plan.dto.PlanSummaryResponseDto;
+import com.booksy.domain.plan.dto.PlanSummaryRowDto;
 import com.booksy.domain.plan.entity.Plan;
+import com.booksy.domain.plan.entity.ReadingSchedule;
 import com.booksy.domain.plan.mapper.PlanMapper;
 import com.booksy.domain.plan.repository.PlanRepository;
 import com.booksy.domain.plan.type.PlanStatus;
 import com.booksy.domain.readinglog.dto.TimeRecordResponseDto;
-import com.booksy.domain.readinglog.repository.ReadingLogRepository;
 import com.booksy.domain.readinglog.service.TimeRecordService;
-import com.booksy.domain.readinglog.type.ContentType;
 import com.booksy.domain.user.entity.User;
 import com.booksy.domain.user.service.UserService;
 import com.booksy.global.ai.OpenAiClient;
@@ -24,12 +25,12 @@ import com.booksy.global.error.exception.ApiException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -46,18 +47,18 @@ public class PlanService {
   private final UserService userService;
   private final BookService bookService;
   private final PlanMapper planMapper;
+  private final ReadingDateCalculator readingDateCalculator;
 
   private final OpenAiClient openAiClient;
-  private final ReadingLogRepository readingLogRepository;
   private final TimeRecordService timeRecordService;
 
   /**
-   * 플랜 미리보기를 위한 계산 (DB 저장 없이 결과만 반환)
+   * 플랜 미리보기를 위한 계산 (플랜은 저장하지 않고 결과만 반환, 도서 정보와 난이도 판단 결과는 저장)
    *
    * @param requestDto 플랜 생성 요청 정보
    * @return PlanPreviewResponseDto (책 정보 + 계산된 독서 일정)
    */
-  @Transactional(readOnly = true)
+  @Transactional
   public PlanPreviewResponseDto previewPlan(PlanCreateRequestDto requestDto) {
     // 1. 도서 조회 or 저장
     Book book = bookService.findOrCreateBookByIsbn(requestDto.getBookIsbn());
@@ -74,10 +75,14 @@ public class PlanService {
           book.getDescription());
 
         System.out.println("🎯 GPT 응답: " + gptResultJson);
-        level = parseLevelFromJson(gptResultJson);
 
-        // 결과 캐싱 (트랜잭션 안이므로 자동 감지되어 저장됨)
-        book.setDifficultyLevel(level);
+        // GPT를 쓸 수 없으면 기본값으로 계산하고, 다음 요청에서 다시 판단하도록 저장하지 않음
+        if (gptResultJson != null) {
+          level = parseLevelFromJson(gptResultJson);
+
+          // 결과 캐싱 (트랜잭션 안이므로 자동 감지되어 저장됨)
+          book.setDifficultyLevel(level);
+        }
       }
     }
 
@@ -112,7 +117,7 @@ public class PlanService {
       readingDates = Collections.emptyList();
     } else {
       // 날짜 기반 플랜
-      readingDates = calculateReadingDates(
+      readingDates = readingDateCalculator.calculate(
         requestDto.getStartDate(),
         requestDto.getPeriodDays(),
         requestDto.getExcludeDates(),
@@ -194,7 +199,7 @@ public class PlanService {
 
     // 4. 추천 일정 사용 시 날짜 계산
     else if (Boolean.TRUE.equals(dto.getUseRecommendedPlan())) {
-      readingDates = calculateReadingDates(
+      readingDates = readingDateCalculator.calculate(
         dto.getStartDate(),
         dto.getRecommendedPeriodDays(),
         dto.getExcludeDates(),
@@ -213,44 +218,6 @@ public class PlanService {
     return planMapper.toResponseDto(savedPlan);
   }
 
-  /**
-   * 시작 날짜와 기간, 제외 조건을 기반으로 독서 예정 날짜 리스트 계산
-   *
-   * @param startDate       시작 날짜
-   * @param periodDays      목표 기간 (읽을 날 수)
-   * @param excludeDates    제외할 특정 날짜 리스트
-   * @param excludeWeekdays 제외할 요일 리스트 (0: 일요일 ~ 6: 토요일)
-   * @return 읽을 날짜 리스트
-   */
-  private List<LocalDate> calculateReadingDates(LocalDate startDate, Integer periodDays,
-    List<LocalDate> excludeDates, List<Integer> excludeWeekdays) {
-    if (Boolean.TRUE.equals(periodDays == null || startDate == null)) {
-      return new ArrayList<>();
-    }
-
-    List<LocalDate> result = new ArrayList<>();
-    LocalDate current = startDate;
-
-    while (result.size() < periodDays) {
-      boolean isExcluded = false;
-
-      if (excludeDates != null && excludeDates.contains(current)) {
-        isExcluded = true;
-      }
-      if (excludeWeekdays != null && excludeWeekdays.contains(
-        current.getDayOfWeek().getValue() % 7)) {
-        isExcluded = true;
-      }
-
-      if (!isExcluded) {
-        result.add(current);
-      }
-      current = current.plusDays(1);
-    }
-
-    return result;
-  }
-
   /**
    * 현재 로그인한 사용자의 플랜 목록을 모두 조회
    *
@@ -261,32 +228,39 @@ public class PlanService {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     User user = userService.getCurrentUser(authentication);
 
-    List<Plan> plans = planRepository.findAllByUser(user);
-    return plans.stream()
+    return planRepository.findRowsByUserId(user.getId()).stream()
       .map(planMapper::toResponseDto)
       .collect(Collectors.toList());
   }
 
   /**
-   * 현재 로그인한 사용자의 플랜 목록을 상태별로 조회
+   * 현재 로그인한 사용자의 플랜 목록을 상태별로 조회 (planId 오름차순, 기존 목록 순서와 동일)
+   *
+   * 도서 정보를 한 번의 쿼리로 함께 조회하며(COMPLETED는 스크랩 수 포함), cursor(이전 페이지 마지막 planId) 기준 keyset 페이지네이션을
+   * 지원한다.
    *
    * @param status 조회할 플랜 상태 (예: READING, COMPLETED)
+   * @param cursor 이전 페이지의 마지막 planId (첫 페이지는 null)
+   * @param size   페이지 크기 (null이면 전체 조회)
    * @return 해당 상태에 해당하는 플랜 목록
    */
   @Transactional(readOnly = true)
-  public List<PlanListResponseDto> getPlansByStatus(PlanStatus status) {
+  public List<PlanListResponseDto> getPlansByStatus(PlanStatus status, Long cursor,
+    Integer size) {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     User user = userService.getCurrentUser(authentication);
 
-    List<Plan> plans = planRepository.findAllByUserAndStatus(user, status);
+    if (size != null && size <= 0) {
+      throw new ApiException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    Limit limit = (size != null) ? Limit.of(size) : Limit.unlimited();
+
+    List<PlanListRowDto> rows = (status == PlanStatus.COMPLETED)
+      ? planRepository.findCompletedListRowsByUserId(user.getId(), cursor, limit)
+      : planRepository.findListRowsByUserIdAndStatus(user.getId(), status, cursor, limit);
 
-    return plans.stream()
-      .map(plan -> {
-        int scrapCount = (status == PlanStatus.COMPLETED)
-          ? readingLogRepository.countByPlanIdAndContentType(plan.getId(), ContentType.SCRAP)
-          : 0;
-        return planMapper.toListDto(plan, status, scrapCount);
-      })
+    return rows.stream()
+      .map(row -> planMapper.toListDto(row, status))
       .collect(Collectors.toList());
   }
 
@@ -306,11 +280,7 @@ public class PlanService {
     User user = userService.getCurrentUser(auth);
     LocalDate today = LocalDate.now();
 
-    List<Plan> plans =
-      planRepository.findByUserAndStatusAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
-        user, PlanStatus.READING, today, today);
-
-    return plans.stream()
+    return planRepository.findReadingRowsByUserId(user.getId(), today).stream()
       .map(planMapper::toResponseDto)
       .collect(Collectors.toList());
   }
@@ -321,29 +291,24 @@ public class PlanService {
    * 조건:
    * - 로그인 사용자 기준
    * - PlanStatus가 READING
-   * - readingDates에 오늘 날짜가 포함되어 있는 경우만
+   * - 독서 일정(readingSchedule)에 오늘 날짜가 포함되어 있는 경우만
    *
    * @return List<PlanSummaryResponseDto> 오늘 읽을 책 리스트
    */
   @Transactional(readOnly = true)
   public List<PlanSummaryResponseDto> getPlansForToday() {
     LocalDate today = LocalDate.now();
-    String todayStr = today.toString();
 
     // 1. 사용자 조회
     Authentication auth = SecurityContextHolder.getContext().getAuthentication();
     User user = userService.getCurrentUser(auth);
 
-    // 2. 사용자의 READING 플랜 조회
-    List<Plan> plans = planRepository.findAllByUserAndStatus(user, PlanStatus.READING);
+    // 2. 일정 범위에 오늘이 포함된 READING 플랜 조회
+    List<PlanSummaryRowDto> rows = planRepository.findScheduledSummaryRows(user.getId(), today);
 
-    // 3. 오늘 날짜가 포함된 플랜만 필터링
-    List<Plan> todaysPlans = plans.stream()
-      .filter(plan -> plan.getReadingDates().contains(todayStr))
-      .toList();
-
-    // 4. DTO로 변환 후 반환
-    return todaysPlans.stream()
+    // 3. 오늘이 독서일인 플랜만 필터링 (비트 조회)
+    return rows.stream()
+      .filter(row -> row.getReadingSchedule().contains(today))
       .map(planMapper::toSummaryDto)
       .toList();
   }
@@ -386,11 +351,8 @@ public class PlanService {
     LocalDate startOfMonth = LocalDate.of(year, month, 1);
     LocalDate endOfMonth = startOfMonth.withDayOfMonth(startOfMonth.lengthOfMonth());
 
-    List<Plan> plans = planRepository
-      .findAllByUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(user, endOfMonth,
-        startOfMonth);
-
-    return plans.stream()
+    return planRepository.findSummaryRowsInPeriod(user.getId(), startOfMonth, endOfMonth)
+      .stream()
       .map(planMapper::toSummaryDto)
       .collect(Collectors.toList());
   }
@@ -406,10 +368,7 @@ public class PlanService {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     User user = userService.getCurrentUser(authentication);
 
-    List<Plan> plans = planRepository
-      .findAllByUserAndStartDateLessThanEqualAndEndDateGreaterThanEqual(user, date, date);
-
-    return plans.stream()
+    return planRepository.findSummaryRowsInPeriod(user.getId(), date, date).stream()
       .map(planMapper::toSummaryDto)
       .collect(Collectors.toList());
   }
@@ -460,22 +419,14 @@ public class PlanService {
       throw new ApiException(ErrorCode.INVALID_PLAN_EXTENSION); // 축소 금지
     }
 
-    // 1. 기존 readingDates 파싱
-    List<String> readingDates = planMapper.parseReadingDates(plan.getReadingDates());
-
-    // 2. 기존 날짜 리스트의 마지막 날짜를 LocalDate로 가져오기
-    LocalDate lastDate = LocalDate.parse(readingDates.get(readingDates.size() - 1));
-
-    // 3. 추가할 날짜 계산 및 append
-    long daysToAdd = ChronoUnit.DAYS.between(originalEndDate.plusDays(1), newEndDate.plusDays(1));
-    for (int i = 0; i < daysToAdd; i++) {
-      LocalDate newDate = originalEndDate.plusDays(1 + i);
-      readingDates.add(newDate.toString());
+    ReadingSchedule schedule = plan.getReadingSchedule();
+    if (schedule == null) {
+      throw new ApiException(ErrorCode.INVALID_PLAN_EXTENSION);
     }
 
-    // 4. JSON 문자열로 변환해서 저장
-    String updatedReadingDates = planMapper.convertListToJson(readingDates);
-    plan.setReadingDates(updatedReadingDates);
+    // 기존 종료일 다음 날부터 새 종료일까지 독서일로 추가
+    plan.setReadingSchedule(schedule.plus(
+      readingDateCalculator.calculateBetween(originalEndDate.plusDays(1), newEndDate)));
     plan.setEndDate(newEndDate);
   }
 
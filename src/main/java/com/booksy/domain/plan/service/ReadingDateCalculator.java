@@ -0,0 +1,175 @@
+package com.booksy.domain.plan.service;
+
+import com.booksy.domain.plan.entity.ReadingSchedule;
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 독서 예정일 계산기 (플랜 미리보기/생성/연장에서 공통 사용)
+ * <p>
+ * 시작일부터 7일 주기로 보면 허용 요일은 매주 같은 위치에 있으므로, n번째 독서 가능일은 (n / 허용 요일 수)주 + 주 안의 오프셋으로 바로
+ * 계산된다. 제외 날짜는 허용 요일에 걸리는 것만 정렬해 두고, 범위 안에 든 개수만큼 마지막 칸을 뒤로 미는 방식으로 종료일을 먼저 구한다.
+ * 날짜를 하루씩 훑지 않으므로 비용은 O(결과 일수 + 제외 날짜 수)다.
+ */
+@Component
+public class ReadingDateCalculator {
+
+  /**
+   * 시작일부터 제외 조건을 피해 periodDays일의 독서일 계산
+   *
+   * @param startDate       시작 날짜
+   * @param periodDays      목표 기간 (읽을 날 수)
+   * @param excludeDates    제외할 특정 날짜 리스트 (null 원소는 무시)
+   * @param excludeWeekdays 제외할 요일 리스트 (0: 일요일 ~ 6: 토요일)
+   * @return 읽을 날짜 리스트 (시작일 또는 기간이 없으면 빈 리스트)
+   * @exception ApiException INVALID_PLAN_PERIOD: 기간이 잘못되었거나 모든 요일이 제외되었거나 일정 최대 길이를 넘는 경우
+   */
+  public List<LocalDate> calculate(LocalDate startDate, Integer periodDays,
+    List<LocalDate> excludeDates, List<Integer> excludeWeekdays) {
+    if (startDate == null || periodDays == null) {
+      return new ArrayList<>();
+    }
+    if (periodDays <= 0 || periodDays > ReadingSchedule.MAX_DAYS) {
+      throw new ApiException(ErrorCode.INVALID_PLAN_PERIOD);
+    }
+
+    Set<DayOfWeek> allowed = EnumSet.allOf(DayOfWeek.class);
+    allowed.removeAll(toDaysOfWeek(excludeWeekdays));
+    if (allowed.isEmpty()) {
+      throw new ApiException(ErrorCode.INVALID_PLAN_PERIOD);
+    }
+
+    WeeklySlots slots = new WeeklySlots(startDate, allowed);
+    long[] excluded = excludedSlots(slots, excludeDates);
+
+    // 마지막 칸 번호: 기간 - 1에서 그 안에 든 제외 날짜 수만큼 뒤로 민다 (정렬되어 있으므로 한 번 훑으면 된다)
+    long lastSlot = periodDays - 1L;
+    for (long slot : excluded) {
+      if (slot > lastSlot) {
+        break;
+      }
+      lastSlot++;
+    }
+    if (slots.offsetOf(lastSlot) >= ReadingSchedule.MAX_DAYS) {
+      throw new ApiException(ErrorCode.INVALID_PLAN_PERIOD);
+    }
+
+    List<LocalDate> result = new ArrayList<>(periodDays);
+    int cursor = 0;
+    for (long slot = 0; slot <= lastSlot; slot++) {
+      if (cursor < excluded.length && excluded[cursor] == slot) {
+        cursor++;
+        continue;
+      }
+      result.add(startDate.plusDays(slots.offsetOf(slot)));
+    }
+    return result;
+  }
+
+  /**
+   * from ~ to(포함) 사이의 모든 날짜 (플랜 연장용, from이 to보다 늦으면 빈 리스트)
+   */
+  public List<LocalDate> calculateBetween(LocalDate from, LocalDate to) {
+    if (to.isBefore(from)) {
+      return new ArrayList<>();
+    }
+    return from.datesUntil(to.plusDays(1)).collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  /**
+   * 허용 요일에 걸리는 제외 날짜의 칸 번호 (오름차순, 중복 제거)
+   */
+  private long[] excludedSlots(WeeklySlots slots, List<LocalDate> excludeDates) {
+    if (excludeDates == null || excludeDates.isEmpty()) {
+      return new long[0];
+    }
+    long[] result = new long[excludeDates.size()];
+    int size = 0;
+    for (LocalDate date : excludeDates) {
+      long slot = date == null ? -1 : slots.slotOf(date);
+      if (slot >= 0) {
+        result[size++] = slot;
+      }
+    }
+    Arrays.sort(result, 0, size);
+
+    // 중복 제거
+    int distinct = 0;
+    for (int i = 0; i < size; i++) {
+      if (distinct == 0 || result[distinct - 1] != result[i]) {
+        result[distinct++] = result[i];
+      }
+    }
+    return Arrays.copyOf(result, distinct);
+  }
+
+  /**
+   * 0(일요일) ~ 6(토요일) 요일 번호를 DayOfWeek로 변환
+   */
+  private Collection<DayOfWeek> toDaysOfWeek(List<Integer> weekdays) {
+    Set<DayOfWeek> result = EnumSet.noneOf(DayOfWeek.class);
+    if (weekdays == null) {
+      return result;
+    }
+    for (Integer weekday : weekdays) {
+      if (weekday == null || weekday < 0 || weekday > 6) {
+        throw new ApiException(ErrorCode.INVALID_INPUT_VALUE);
+      }
+      result.add(DayOfWeek.of(weekday == 0 ? 7 : weekday));
+    }
+    return result;
+  }
+
+  /**
+   * 시작일 기준 7일 주기의 허용 요일 위치
+   * <p>
+   * n번째 칸(0부터)은 시작일로부터 (n / 허용 요일 수) * 7 + offsets[n % 허용 요일 수]일째 날이다.
+   */
+  private static final class WeeklySlots {
+
+    private final LocalDate startDate;
+    private final int[] offsets;
+    // 주 안의 오프셋(0~6) -> 그 주에서 몇 번째 칸인지 (허용되지 않은 요일은 -1)
+    private final int[] ranks = new int[7];
+
+    WeeklySlots(LocalDate startDate, Set<DayOfWeek> allowed) {
+      this.startDate = startDate;
+      this.offsets = new int[allowed.size()];
+      int count = 0;
+      for (int offset = 0; offset < 7; offset++) {
+        if (allowed.contains(startDate.getDayOfWeek().plus(offset))) {
+          ranks[offset] = count;
+          offsets[count++] = offset;
+        } else {
+          ranks[offset] = -1;
+        }
+      }
+    }
+
+    long offsetOf(long slot) {
+      return slot / offsets.length * 7 + offsets[(int) (slot % offsets.length)];
+    }
+
+    /**
+     * 날짜의 칸 번호 (시작일 이전이거나 허용되지 않은 요일이면 -1)
+     */
+    long slotOf(LocalDate date) {
+      long days = ChronoUnit.DAYS.between(startDate, date);
+      if (days < 0 || ranks[(int) (days % 7)] < 0) {
+        return -1;
+      }
+      return days / 7 * offsets.length + ranks[(int) (days % 7)];
+    }
+  }
+}
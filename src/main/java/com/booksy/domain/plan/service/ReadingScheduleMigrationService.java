@@ -0,0 +1,60 @@
+package com.booksy.domain.plan.service;
+
+import com.booksy.domain.plan.dto.LegacyReadingDatesRowDto;
+import com.booksy.domain.plan.entity.ReadingSchedule;
+import com.booksy.domain.plan.mapper.PlanMapper;
+import com.booksy.domain.plan.repository.PlanRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 구버전 JSON 독서 예정일(reading_dates)을 비트맵 일정(readingSchedule)으로 이관하는 서비스
+ * <p>
+ * 플랜 엔티티를 수정하면 updated_at이 갱신되는데, 완독 수 랭킹이 이 값을 완독 시각으로 쓰므로 엔티티를 읽지 않고 id/JSON만 조회해 벌크
+ * UPDATE로 이관한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReadingScheduleMigrationService {
+
+  private static final int CHUNK_SIZE = 500;
+
+  private final PlanRepository planRepository;
+  private final PlanMapper planMapper;
+
+  /**
+   * 애플리케이션 시작 시 이관되지 않은 플랜을 변환 (이관 후 JSON 컬럼은 비운다)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void migrateLegacyReadingDates() {
+    int migrated = 0;
+    long cursor = 0L;
+    List<LegacyReadingDatesRowDto> rows;
+    do {
+      rows = planRepository.findLegacyReadingDates(cursor, Limit.of(CHUNK_SIZE));
+      for (LegacyReadingDatesRowDto row : rows) {
+        List<LocalDate> dates = planMapper.parseReadingDates(row.getReadingDates()).stream()
+            .map(LocalDate::parse)
+            .toList();
+        ReadingSchedule schedule = ReadingSchedule.of(dates);
+        migrated += planRepository.migrateReadingSchedule(row.getPlanId(),
+            schedule != null ? schedule.getBaseDate() : null,
+            schedule != null ? schedule.getDays() : null);
+        cursor = row.getPlanId();
+      }
+    } while (rows.size() == CHUNK_SIZE);
+
+    if (migrated > 0) {
+      log.info("독서 일정 비트맵 이관 완료: {}건", migrated);
+    }
+  }
+}
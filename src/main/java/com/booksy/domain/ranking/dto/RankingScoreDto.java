@@ -0,0 +1,15 @@
+package com.booksy.domain.ranking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리더보드 재구성용 사용자별 누적 점수 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class RankingScoreDto {
+
+  private Integer userId;
+  private Long score; // 독서 시간(분), 완독 수, 뱃지 수
+}
@@ -0,0 +1,114 @@
+package com.booksy.domain.ranking.leaderboard;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하나의 (정렬 기준, 범위, 기간)에 대한 인메모리 리더보드
+ * <p>
+ * 사용자별 누적 점수를 유지하며, 점수 내림차순(동점 시 userId 오름차순)으로 정렬된 상태를 유지한다. 점수 갱신, 상위 N명 조회, 특정 사용자의
+ * 순위 조회 모두 다른 사용자 데이터를 읽지 않고 O(log n)으로 처리된다.
+ */
+public class Leaderboard {
+
+  private final LocalDateTime periodStart;
+  private final Map<Integer, Long> scores = new HashMap<>();
+  private final RankedSkipList ranking = new RankedSkipList();
+
+  public Leaderboard(LocalDateTime periodStart) {
+    this.periodStart = periodStart;
+  }
+
+  public LocalDateTime getPeriodStart() {
+    return periodStart;
+  }
+
+  /**
+   * 사용자 점수를 delta만큼 증가시킨다. (처음 등장한 사용자는 0점에서 시작)
+   */
+  public synchronized void add(Integer userId, long delta) {
+    if (delta == 0) {
+      return;
+    }
+
+    Long previous = scores.get(userId);
+    if (previous != null) {
+      ranking.remove(userId, previous);
+    }
+
+    long updated = (previous != null ? previous : 0L) + delta;
+    if (updated <= 0) {
+      scores.remove(userId);
+      return;
+    }
+
+    scores.put(userId, updated);
+    ranking.insert(userId, updated);
+  }
+
+  /**
+   * 상위 limit명의 점수 목록 (순위 순)
+   */
+  public synchronized List<Entry> top(int limit) {
+    return ranking.top(limit);
+  }
+
+  /**
+   * 사용자의 순위 (1위부터, 기록이 없으면 -1)
+   */
+  public synchronized int rankOf(Integer userId) {
+    Long score = scores.get(userId);
+    if (score == null) {
+      return -1;
+    }
+    return ranking.rank(userId, score);
+  }
+
+  /**
+   * 사용자의 순위, 점수, 전체 인원을 한 번에 조회 (기록이 없으면 null)
+   */
+  public synchronized Position positionOf(Integer userId) {
+    Long score = scores.get(userId);
+    if (score == null) {
+      return null;
+    }
+    return new Position(ranking.rank(userId, score), score, scores.size());
+  }
+
+  /**
+   * 사용자의 누적 점수 (기록이 없으면 null)
+   */
+  public synchronized Long scoreOf(Integer userId) {
+    return scores.get(userId);
+  }
+
+  /**
+   * 기록이 있는 사용자 수
+   */
+  public synchronized int size() {
+    return scores.size();
+  }
+
+  public record Entry(Integer userId, long score) {
+
+  }
+
+  /**
+   * 특정 사용자의 순위 정보
+   *
+   * @param rank  순위 (1위부터)
+   * @param score 누적 점수
+   * @param total 기록이 있는 전체 사용자 수
+   */
+  public record Position(int rank, long score, int total) {
+
+    /**
+     * 상위 퍼센트 (ex: 3.2 → 상위 3.2%)
+     */
+    public double percentile() {
+      return (double) rank / total * 100;
+    }
+  }
+}
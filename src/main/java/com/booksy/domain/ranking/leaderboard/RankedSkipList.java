@@ -0,0 +1,162 @@
+package com.booksy.domain.ranking.leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 조회가 가능한 인덱스 스킵 리스트 (order-statistic skip list)
+ * <p>
+ * 각 포인터가 건너뛰는 노드 수(span)를 함께 저장하여 삽입/삭제/순위 조회를 모두 기대 O(log n)으로 처리한다. 정렬 순서는 점수 내림차순, 동점 시
+ * userId 오름차순이다. 동기화는 호출하는 쪽({@link Leaderboard})에서 담당한다.
+ */
+class RankedSkipList {
+
+  private static final int MAX_LEVEL = 32;
+  private static final double P = 0.25;
+
+  private final Node head = new Node(0, 0L, MAX_LEVEL);
+  private int level = 1;
+  private int size = 0;
+
+  /**
+   * 노드 삽입 (같은 userId가 이미 존재하지 않는다고 가정)
+   */
+  void insert(int userId, long score) {
+    Node[] update = new Node[MAX_LEVEL];
+    int[] rank = new int[MAX_LEVEL];
+
+    Node x = head;
+    for (int i = level - 1; i >= 0; i--) {
+      rank[i] = (i == level - 1) ? 0 : rank[i + 1];
+      while (x.next[i] != null && precedes(x.next[i], userId, score)) {
+        rank[i] += x.span[i];
+        x = x.next[i];
+      }
+      update[i] = x;
+    }
+
+    int newLevel = randomLevel();
+    if (newLevel > level) {
+      for (int i = level; i < newLevel; i++) {
+        rank[i] = 0;
+        update[i] = head;
+        head.span[i] = size;
+      }
+      level = newLevel;
+    }
+
+    Node node = new Node(userId, score, newLevel);
+    for (int i = 0; i < newLevel; i++) {
+      node.next[i] = update[i].next[i];
+      update[i].next[i] = node;
+      node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+      update[i].span[i] = (rank[0] - rank[i]) + 1;
+    }
+    for (int i = newLevel; i < level; i++) {
+      update[i].span[i]++;
+    }
+    size++;
+  }
+
+  /**
+   * 노드 삭제
+   *
+   * @return 삭제 여부
+   */
+  boolean remove(int userId, long score) {
+    Node[] update = new Node[MAX_LEVEL];
+
+    Node x = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.next[i] != null && precedes(x.next[i], userId, score)) {
+        x = x.next[i];
+      }
+      update[i] = x;
+    }
+
+    x = x.next[0];
+    if (x == null || x.userId != userId || x.score != score) {
+      return false;
+    }
+
+    for (int i = 0; i < level; i++) {
+      if (update[i].next[i] == x) {
+        update[i].span[i] += x.span[i] - 1;
+        update[i].next[i] = x.next[i];
+      } else {
+        update[i].span[i]--;
+      }
+    }
+    while (level > 1 && head.next[level - 1] == null) {
+      level--;
+    }
+    size--;
+    return true;
+  }
+
+  /**
+   * 순위 조회 (1위부터, 없으면 -1)
+   */
+  int rank(int userId, long score) {
+    int rank = 0;
+    Node x = head;
+    for (int i = level - 1; i >= 0; i--) {
+      while (x.next[i] != null
+          && (precedes(x.next[i], userId, score)
+          || (x.next[i].userId == userId && x.next[i].score == score))) {
+        rank += x.span[i];
+        x = x.next[i];
+      }
+      if (x != head && x.userId == userId && x.score == score) {
+        return rank;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 상위 limit개 항목 (순위 순)
+   */
+  List<Leaderboard.Entry> top(int limit) {
+    List<Leaderboard.Entry> result = new ArrayList<>(Math.min(limit, size));
+    for (Node x = head.next[0]; x != null && result.size() < limit; x = x.next[0]) {
+      result.add(new Leaderboard.Entry(x.userId, x.score));
+    }
+    return result;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * node가 (userId, score)보다 앞 순위인지 여부
+   */
+  private static boolean precedes(Node node, int userId, long score) {
+    return node.score > score || (node.score == score && node.userId < userId);
+  }
+
+  private static int randomLevel() {
+    int lvl = 1;
+    while (lvl < MAX_LEVEL && ThreadLocalRandom.current().nextDouble() < P) {
+      lvl++;
+    }
+    return lvl;
+  }
+
+  private static final class Node {
+
+    private final int userId;
+    private final long score;
+    private final Node[] next;
+    private final int[] span;
+
+    private Node(int userId, long score, int level) {
+      this.userId = userId;
+      this.score = score;
+      this.next = new Node[level];
+      this.span = new int[level];
+    }
+  }
+}
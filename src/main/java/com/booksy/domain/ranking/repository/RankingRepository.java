@@ -1,10 +1,10 @@
 package com.booksy.domain.ranking.repository;
 
-import com.booksy.domain.ranking.dto.RankingResponseDto;
+import com.booksy.domain.ranking.dto.RankingScoreDto;
 import com.booksy.domain.user.entity.User;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,137 +12,49 @@ import org.springframework.data.repository.query.Param;
 public interface RankingRepository extends JpaRepository<User, Long> {
 
   // ==============================
-  // 📌 상위 50명 조회용 쿼리
+  // 📌 리더보드 재구성용 사용자별 누적 점수 쿼리
   // ==============================
 
   /**
-   * [독서 시간 기준] 상위 50명 조회 - TimeRecord.duration (분 단위) 누적합 기준 - startTime이 지정일 이후인 것만 집계 - 반환값:
-   * "10시간 30분", valueType: "time"
+   * [독서 시간 기준] 사용자별 누적 독서 시간(분) - 일별 독서 집계에서 타이머 시작일이 지정일 이후인 것만 집계
    */
   @Query("""
-          SELECT new com.booksy.domain.ranking.dto.RankingResponseDto(
-              u.id,
-              0,
-              u.nickname,
-              u.profileImage,
-              CONCAT(FLOOR(SUM(COALESCE(t.duration, 0)) / 60), '시간 ', MOD(SUM(COALESCE(t.duration, 0)), 60), '분'),
-              'time'
+          SELECT new com.booksy.domain.ranking.dto.RankingScoreDto(
+              s.user.id,
+              SUM(s.minutes)
           )
-          FROM User u
-          JOIN TimeRecord t ON t.user = u
-          WHERE t.startTime >= :start
-          GROUP BY u.id, u.nickname, u.profileImage
-          ORDER BY SUM(t.duration) DESC
+          FROM DailyReadingSummary s
+          WHERE s.readingDate >= :start
+          GROUP BY s.user.id
       """)
-  List<RankingResponseDto> getTop50ByReadingTime(@Param("start") LocalDateTime start,
-      Pageable pageable);
+  List<RankingScoreDto> sumReadingTimeByUser(@Param("start") LocalDate start);
 
   /**
-   * [완료한 플랜 수 기준] 상위 50명 조회 - Plan.status == COMPLETED - updatedAt이 지정일 이후인 것만 포함 - 반환값: "35권",
-   * valueType: "count"
+   * [완료한 플랜 수 기준] 사용자별 완독 수 - Plan.status == COMPLETED - updatedAt이 지정일 이후인 것만 포함
    */
   @Query("""
-          SELECT new com.booksy.domain.ranking.dto.RankingResponseDto(
-              u.id,
-              0,
-              u.nickname,
-              u.profileImage,
-              CONCAT(COUNT(p), '권'),
-              'count'
+          SELECT new com.booksy.domain.ranking.dto.RankingScoreDto(
+              p.user.id,
+              COUNT(p)
           )
-          FROM User u
-          JOIN Plan p ON p.user = u
+          FROM Plan p
           WHERE p.status = com.booksy.domain.plan.type.PlanStatus.COMPLETED
             AND p.updatedAt >= :start
-          GROUP BY u.id, u.nickname, u.profileImage
-          ORDER BY COUNT(p) DESC
+          GROUP BY p.user.id
       """)
-  List<RankingResponseDto> getTop50ByCompletedPlans(@Param("start") LocalDateTime start,
-      Pageable pageable);
+  List<RankingScoreDto> countCompletedPlansByUser(@Param("start") LocalDateTime start);
 
   /**
-   * [획득한 뱃지 수 기준] 상위 50명 조회 - UserBadge.acquiredAt 기준으로 필터링 - 반환값: "12개", valueType: "badge"
+   * [획득한 뱃지 수 기준] 사용자별 뱃지 수 - UserBadge.acquiredAt 기준으로 필터링
    */
   @Query("""
-          SELECT new com.booksy.domain.ranking.dto.RankingResponseDto(
-              u.id,
-              0,
-              u.nickname,
-              u.profileImage,
-              CONCAT(COUNT(ub), '개'),
-              'badge'
+          SELECT new com.booksy.domain.ranking.dto.RankingScoreDto(
+              ub.user.id,
+              COUNT(ub)
           )
-          FROM User u
-          JOIN UserBadge ub ON ub.user = u
+          FROM UserBadge ub
           WHERE ub.acquiredAt >= :start
-          GROUP BY u.id, u.nickname, u.profileImage
-          ORDER BY COUNT(ub) DESC
+          GROUP BY ub.user.id
       """)
-  List<RankingResponseDto> getTop50ByBadgeCount(@Param("start") LocalDateTime start,
-      Pageable pageable);
-
-  // ==============================
-  // 📌 전체 사용자 기준 랭킹 조회 (내 랭킹 확인용)
-  // ==============================
-
-  /**
-   * [전체 사용자] 독서 시간 기준 랭킹 조회 - 반환값에 userId 포함
-   */
-  @Query("""
-          SELECT new com.booksy.domain.ranking.dto.RankingResponseDto(
-              u.id,
-              0,
-              u.nickname,
-              u.profileImage,
-              CONCAT(FLOOR(SUM(t.duration) / 60), '시간 ', MOD(SUM(t.duration), 60), '분'),
-              'time'
-          )
-          FROM User u
-          JOIN TimeRecord t ON t.user = u
-          WHERE t.startTime >= :start
-          GROUP BY u.id, u.nickname, u.profileImage
-          ORDER BY SUM(t.duration) DESC
-      """)
-  List<RankingResponseDto> getAllByReadingTime(@Param("start") LocalDateTime start);
-
-  /**
-   * [전체 사용자] 플랜 완료 수 기준 랭킹 조회
-   */
-  @Query("""
-          SELECT new com.booksy.domain.ranking.dto.RankingResponseDto(
-              u.id,
-              0,
-              u.nickname,
-              u.profileImage,
-              CONCAT(COUNT(p), '권'),
-              'count'
-          )
-          FROM User u
-          JOIN Plan p ON p.user = u
-          WHERE p.status = com.booksy.domain.plan.type.PlanStatus.COMPLETED
-            AND p.updatedAt >= :start
-          GROUP BY u.id, u.nickname, u.profileImage
-          ORDER BY COUNT(p) DESC
-      """)
-  List<RankingResponseDto> getAllByCompletedPlans(@Param("start") LocalDateTime start);
-
-  /**
-   * [전체 사용자] 획득 뱃지 수 기준 랭킹 조회
-   */
-  @Query("""
-          SELECT new com.booksy.domain.ranking.dto.RankingResponseDto(
-              u.id,
-              0,
-              u.nickname,
-              u.profileImage,
-              CONCAT(COUNT(ub), '개'),
-              'badge'
-          )
-          FROM User u
-          JOIN UserBadge ub ON ub.user = u
-          WHERE ub.acquiredAt >= :start
-          GROUP BY u.id, u.nickname, u.profileImage
-          ORDER BY COUNT(ub) DESC
-      """)
-  List<RankingResponseDto> getAllByBadgeCount(@Param("start") LocalDateTime start);
+  List<RankingScoreDto> countBadgesByUser(@Param("start") LocalDateTime start);
 }
@@ -0,0 +1,195 @@
+package com.booksy.domain.ranking.service;
+
+import com.booksy.domain.ranking.dto.RankingScoreDto;
+import com.booksy.domain.ranking.leaderboard.Leaderboard;
+import com.booksy.domain.ranking.repository.RankingRepository;
+import com.booksy.domain.ranking.type.RankingScope;
+import com.booksy.domain.ranking.type.RankingSort;
+import com.booksy.global.util.SingleFlight;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 랭킹용 인메모리 리더보드를 관리하는 서비스
+ * <p>
+ * (정렬 기준, 범위)별 리더보드를 유지하고, 타이머 종료/완독/뱃지 획득 트랜잭션이 커밋되면 점수를 증분 갱신한다. 애플리케이션 시작 시와
+ * 기간이 바뀌었을 때 DB 집계로 재구성하며, 삭제 등 증분으로 반영되지 않는 변경은 매일 자정 재구성으로 보정한다.
+ * <p>
+ * 재구성은 리더보드 하나씩 락 밖에서 집계 쿼리를 실행하고, 그 리더보드의 집계를 시작한 뒤 들어온 증분만 모아 두었다가 교체 직전에 새 리더보드에
+ * 다시 적용한다. (집계 시작 전에 반영된 증분은 이미 DB 집계에 포함되어 있으므로 다시 적용하지 않는다. 커밋 직후 증분이 반영되기 전 짧은 틈에
+ * 집계가 시작된 경우의 오차는 다음 재구성에서 보정된다.)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+  private final RankingRepository rankingRepository;
+
+  private final Map<RankingSort, Map<RankingScope, Leaderboard>> boards =
+      new EnumMap<>(RankingSort.class);
+
+  // 집계 중인 리더보드별로, 집계 시작 후 반영된 증분
+  private final Map<BoardKey, List<Delta>> pendingDeltas = new HashMap<>();
+
+  // 같은 리더보드를 동시에 재구성하지 않도록 합침 (기간이 바뀐 직후 여러 요청이 몰리는 경우)
+  private final SingleFlight<BoardKey, Leaderboard> rebuilds = new SingleFlight<>();
+
+  /**
+   * 현재 기간의 리더보드 조회 (없거나 기간이 지났으면 DB에서 재구성, 집계 쿼리는 락 밖에서 실행)
+   */
+  public Leaderboard getBoard(RankingSort sort, RankingScope scope) {
+    LocalDateTime periodStart = scope.periodStart(LocalDate.now());
+    synchronized (this) {
+      Leaderboard board = currentBoard(sort, scope);
+      if (board != null && board.getPeriodStart().equals(periodStart)) {
+        return board;
+      }
+    }
+    return rebuild(sort, scope, periodStart);
+  }
+
+  /**
+   * 타이머 종료 시 독서 시간 반영 (타이머 시작 시각이 집계 기간에 포함될 때만, 트랜잭션 커밋 후)
+   */
+  public void recordReadingTime(Integer userId, LocalDateTime startTime, int minutes) {
+    afterCommit(() -> add(RankingSort.TIME, userId, minutes, startTime));
+  }
+
+  /**
+   * 플랜 완독 시 완독 수 반영 (트랜잭션 커밋 후)
+   */
+  public void recordCompletedPlan(Integer userId) {
+    afterCommit(() -> add(RankingSort.COUNT, userId, 1, null));
+  }
+
+  /**
+   * 뱃지 획득 시 뱃지 수 반영 (트랜잭션 커밋 후)
+   */
+  public void recordBadge(Integer userId) {
+    afterCommit(() -> add(RankingSort.BADGE, userId, 1, null));
+  }
+
+  /**
+   * 모든 리더보드를 DB 집계로 재구성 (시작 시 + 매일 자정)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+  public void rebuildAll() {
+    LocalDate today = LocalDate.now();
+    for (RankingSort sort : RankingSort.values()) {
+      for (RankingScope scope : RankingScope.values()) {
+        rebuild(sort, scope, scope.periodStart(today));
+      }
+    }
+    log.info("리더보드 재구성 완료");
+  }
+
+  // 리더보드 하나를 재구성해 교체 (집계 중 들어온 증분은 기록해 두었다가 교체 직전에 다시 적용)
+  private Leaderboard rebuild(RankingSort sort, RankingScope scope, LocalDateTime periodStart) {
+    BoardKey key = new BoardKey(sort, scope);
+    return rebuilds.execute(key, () -> {
+      synchronized (this) {
+        pendingDeltas.put(key, new ArrayList<>());
+      }
+
+      Leaderboard board;
+      try {
+        board = load(sort, periodStart);
+      } catch (RuntimeException e) {
+        synchronized (this) {
+          pendingDeltas.remove(key);
+        }
+        throw e;
+      }
+
+      synchronized (this) {
+        for (Delta delta : pendingDeltas.remove(key)) {
+          if (delta.periodStart().equals(periodStart)) {
+            board.add(delta.userId(), delta.amount());
+          }
+        }
+        boards.computeIfAbsent(sort, s -> new EnumMap<>(RankingScope.class)).put(scope, board);
+      }
+      return board;
+    });
+  }
+
+  // 범위별 리더보드에 점수 반영 (occurredAt이 주어지면 집계 기간에 포함될 때만)
+  // 해당 리더보드를 집계 중이면 새 리더보드에도 다시 적용하도록 기록
+  private void add(RankingSort sort, Integer userId, long amount, LocalDateTime occurredAt) {
+    for (RankingScope scope : RankingScope.values()) {
+      getBoard(sort, scope); // 없거나 기간이 지났으면 먼저 재구성
+      synchronized (this) {
+        // getBoard 이후 교체되었을 수 있으므로 현재 리더보드에 반영
+        Leaderboard board = currentBoard(sort, scope);
+        if (occurredAt != null && occurredAt.isBefore(board.getPeriodStart())) {
+          continue;
+        }
+        board.add(userId, amount);
+        List<Delta> pending = pendingDeltas.get(new BoardKey(sort, scope));
+        if (pending != null) {
+          pending.add(new Delta(board.getPeriodStart(), userId, amount));
+        }
+      }
+    }
+  }
+
+  private Leaderboard currentBoard(RankingSort sort, RankingScope scope) {
+    Map<RankingScope, Leaderboard> byScope = boards.get(sort);
+    return byScope != null ? byScope.get(scope) : null;
+  }
+
+  // 진행 중인 트랜잭션이 있으면 커밋된 뒤에만 실행 (롤백되면 반영하지 않으며, 반영 실패는 자정 재구성으로 보정)
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        try {
+          action.run();
+        } catch (RuntimeException e) {
+          log.warn("리더보드 증분 반영 실패: {}", e.getMessage());
+        }
+      }
+    });
+  }
+
+  private Leaderboard load(RankingSort sort, LocalDateTime periodStart) {
+    List<RankingScoreDto> scores = switch (sort) {
+      case TIME -> rankingRepository.sumReadingTimeByUser(periodStart.toLocalDate());
+      case COUNT -> rankingRepository.countCompletedPlansByUser(periodStart);
+      case BADGE -> rankingRepository.countBadgesByUser(periodStart);
+    };
+
+    Leaderboard board = new Leaderboard(periodStart);
+    for (RankingScoreDto score : scores) {
+      board.add(score.getUserId(), score.getScore());
+    }
+    return board;
+  }
+
+  private record BoardKey(RankingSort sort, RankingScope scope) {
+
+  }
+
+  private record Delta(LocalDateTime periodStart, Integer userId, long amount) {
+
+  }
+}
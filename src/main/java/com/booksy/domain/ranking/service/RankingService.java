@@ -2,23 +2,28 @@ package com.booksy.domain.ranking.service;
 
 import com.booksy.domain.ranking.dto.MyRankingResponseDto;
 import com.booksy.domain.ranking.dto.RankingResponseDto;
-import com.booksy.domain.ranking.repository.RankingRepository;
+import com.booksy.domain.ranking.leaderboard.Leaderboard;
+import com.booksy.domain.ranking.type.RankingScope;
+import com.booksy.domain.ranking.type.RankingSort;
 import com.booksy.domain.user.entity.User;
 import com.booksy.domain.user.repository.UserRepository;
 import com.booksy.global.error.ErrorCode;
 import com.booksy.global.error.exception.ApiException;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class RankingService {
 
-  private final RankingRepository rankingRepository;
+  private static final int TOP_LIMIT = 50; // 상위 50명 제한
+
+  private final LeaderboardService leaderboardService;
   private final UserRepository userRepository;
 
   /**
@@ -29,87 +34,49 @@ public class RankingService {
    * @return 랭킹 응답 DTO 리스트 (rank 포함)
    */
   public List<RankingResponseDto> getRankingList(String sort, String scope) {
-    validateSortAndScope(sort, scope); // 유효성 검사
-    LocalDateTime start = calculateStartDate(scope); // 범위 시작 시점 계산
-    PageRequest pageRequest = PageRequest.of(0, 50); // 상위 50명 제한
+    RankingSort rankingSort = RankingSort.fromInput(sort); // 유효성 검사
+    RankingScope rankingScope = RankingScope.fromInput(scope);
 
-    List<RankingResponseDto> result;
+    // 리더보드에서 상위 50명 조회
+    List<Leaderboard.Entry> top = leaderboardService.getBoard(rankingSort, rankingScope)
+        .top(TOP_LIMIT);
 
-    // 정렬 기준별로 데이터 조회
-    switch (sort) {
-      case "time" -> result = rankingRepository.getTop50ByReadingTime(start, pageRequest);
-      case "count" -> result = rankingRepository.getTop50ByCompletedPlans(start, pageRequest);
-      case "badge" -> result = rankingRepository.getTop50ByBadgeCount(start, pageRequest);
-      default -> throw new ApiException(ErrorCode.INVALID_SORT_TYPE);
-    }
+    // 상위 사용자 프로필 일괄 조회
+    Map<Integer, User> users = userRepository.findAllById(
+            top.stream().map(Leaderboard.Entry::userId).toList()).stream()
+        .collect(Collectors.toMap(User::getId, Function.identity()));
 
     // 순위(rank) 부여 (1위부터 시작)
-    for (int i = 0; i < result.size(); i++) {
-      result.get(i).setRank(i + 1);
+    List<RankingResponseDto> result = new ArrayList<>(top.size());
+    for (Leaderboard.Entry entry : top) {
+      User user = users.get(entry.userId());
+      if (user == null) {
+        continue;
+      }
+      result.add(RankingResponseDto.builder()
+          .userId(user.getId())
+          .rank(result.size() + 1)
+          .nickname(user.getNickname())
+          .profileImage(user.getProfileImage())
+          .value(rankingSort.formatValue(entry.score()))
+          .valueType(rankingSort.getInput())
+          .build());
     }
 
     return result;
   }
 
-  /**
-   * 정렬 기준과 범위 값의 유효성 검사
-   *
-   * @param sort  정렬 기준 ("time", "count", "badge")
-   * @param scope 범위 기준 ("month", "year")
-   */
-  private void validateSortAndScope(String sort, String scope) {
-    if (!List.of("time", "count", "badge").contains(sort)) {
-      throw new ApiException(ErrorCode.INVALID_SORT_TYPE);
-    }
-    if (!List.of("month", "year").contains(scope)) {
-      throw new ApiException(ErrorCode.INVALID_SCOPE_TYPE);
-    }
-  }
-
-  /**
-   * 범위(scope)에 따라 시작일 계산
-   *
-   * @param scope "month" 또는 "year"
-   * @return 해당 범위의 시작 시각 (LocalDateTime)
-   */
-  private LocalDateTime calculateStartDate(String scope) {
-    LocalDate today = LocalDate.now();
-
-    if (scope.equals("month")) {
-      return today.withDayOfMonth(1).atStartOfDay(); // 이번 달 1일 00:00
-    } else {
-      return today.withDayOfYear(1).atStartOfDay(); // 올해 1월 1일 00:00
-    }
-  }
-
   public MyRankingResponseDto getMyRanking(String sort, String scope, Integer userId) {
     // 1. sort, scope 값 유효성 검사
-    validateSortAndScope(sort, scope);
+    RankingSort rankingSort = RankingSort.fromInput(sort);
+    RankingScope rankingScope = RankingScope.fromInput(scope);
 
-    // 2. 범위 시작일 계산 (이번 달 1일 or 올해 1월 1일)
-    LocalDateTime start = calculateStartDate(scope);
+    // 2. 현재 기간의 리더보드에서 내 순위 조회 (O(log n), 다른 사용자 데이터 미조회)
+    Leaderboard.Position position = leaderboardService.getBoard(rankingSort, rankingScope)
+        .positionOf(userId);
 
-    // 3. 조건에 맞는 전체 사용자 랭킹 데이터 조회 (userId 포함됨)
-    List<RankingResponseDto> allRanking = switch (sort) {
-      case "time" -> rankingRepository.getAllByReadingTime(start);
-      case "count" -> rankingRepository.getAllByCompletedPlans(start);
-      case "badge" -> rankingRepository.getAllByBadgeCount(start);
-      default -> throw new ApiException(ErrorCode.INVALID_SORT_TYPE);
-    };
-
-    // 4. rank 값을 1부터 부여
-    for (int i = 0; i < allRanking.size(); i++) {
-      allRanking.get(i).setRank(i + 1);
-    }
-
-    // 5. 내 랭킹 정보 찾기
-    RankingResponseDto me = allRanking.stream()
-        .filter(r -> r.getUserId().equals(userId))
-        .findFirst()
-        .orElse(null);
-
-    // 6. 기록 없는 사용자 처리
-    if (me == null) {
+    // 3. 기록 없는 사용자 처리
+    if (position == null) {
       return new MyRankingResponseDto(
           -1,             // rank
           "",             // nickname
@@ -121,22 +88,19 @@ public class RankingService {
       );
     }
 
-    // 7. User 엔티티에서 level 가져오기
+    // 4. User 엔티티에서 닉네임, 프로필, level 가져오기
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ApiException(ErrorCode.ENTITY_NOT_FOUND));
 
-    // 8. 상위 퍼센트 계산
-    double percentile = roundToOneDecimal((double) me.getRank() / allRanking.size() * 100);
-
-    // 9. 최종 DTO 응답 생성
+    // 5. 최종 DTO 응답 생성 (상위 퍼센트는 소수점 1자리)
     return new MyRankingResponseDto(
-        me.getRank(),
-        me.getNickname(),
-        me.getProfileImage(),
+        position.rank(),
+        user.getNickname(),
+        user.getProfileImage(),
         user.getLevel(),
-        me.getValue(),
-        me.getValueType(),
-        percentile
+        rankingSort.formatValue(position.score()),
+        rankingSort.getInput(),
+        roundToOneDecimal(position.percentile())
     );
   }
 
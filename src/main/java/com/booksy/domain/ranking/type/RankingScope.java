@@ -0,0 +1,39 @@
+package com.booksy.domain.ranking.type;
+
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 랭킹 집계 범위 (이번 달, 올해)
+ */
+public enum RankingScope {
+  MONTH("month"),
+  YEAR("year");
+
+  private final String input;
+
+  RankingScope(String input) {
+    this.input = input;
+  }
+
+  public static RankingScope fromInput(String input) {
+    for (RankingScope scope : values()) {
+      if (scope.input.equals(input)) {
+        return scope;
+      }
+    }
+    throw new ApiException(ErrorCode.INVALID_SCOPE_TYPE);
+  }
+
+  /**
+   * 기준일이 속한 집계 기간의 시작 시각 (이번 달 1일 00:00 or 올해 1월 1일 00:00)
+   */
+  public LocalDateTime periodStart(LocalDate today) {
+    return switch (this) {
+      case MONTH -> today.withDayOfMonth(1).atStartOfDay();
+      case YEAR -> today.withDayOfYear(1).atStartOfDay();
+    };
+  }
+}
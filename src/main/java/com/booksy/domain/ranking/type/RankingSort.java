@@ -0,0 +1,43 @@
+package com.booksy.domain.ranking.type;
+
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+
+/**
+ * 랭킹 정렬 기준 (독서 시간, 완독 수, 뱃지 수)
+ */
+public enum RankingSort {
+  TIME("time"),
+  COUNT("count"),
+  BADGE("badge");
+
+  private final String input; // 사용자 요청용 / 응답 valueType
+
+  RankingSort(String input) {
+    this.input = input;
+  }
+
+  public String getInput() {
+    return input;
+  }
+
+  public static RankingSort fromInput(String input) {
+    for (RankingSort sort : values()) {
+      if (sort.input.equals(input)) {
+        return sort;
+      }
+    }
+    throw new ApiException(ErrorCode.INVALID_SORT_TYPE);
+  }
+
+  /**
+   * 점수를 응답용 문자열로 변환 (ex: "10시간 20분", "35권", "12개")
+   */
+  public String formatValue(long score) {
+    return switch (this) {
+      case TIME -> (score / 60) + "시간 " + (score % 60) + "분";
+      case COUNT -> score + "권";
+      case BADGE -> score + "개";
+    };
+  }
+}
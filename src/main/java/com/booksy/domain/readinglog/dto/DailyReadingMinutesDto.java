@@ -0,0 +1,16 @@
+package com.booksy.domain.readinglog.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 날짜별 총 독서 시간 집계 결과 dto
+ */
+@Getter
+@AllArgsConstructor
+public class DailyReadingMinutesDto {
+
+  private LocalDate date;
+  private Long minutes; // 해당 날짜의 총 독서 시간 (분 단위)
+}
@@ -0,0 +1,19 @@
+package com.booksy.domain.readinglog.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * time_record 를 사용자/플랜/날짜별로 집계한 결과 dto (일별 독서 집계 재구성용)
+ */
+@Getter
+@AllArgsConstructor
+public class DailyReadingSummaryRowDto {
+
+  private Integer userId;
+  private Long planId;
+  private LocalDate readingDate;
+  private Long minutes;
+  private Long sessions;
+}
@@ -0,0 +1,49 @@
+package com.booksy.domain.readinglog.entity;
+
+import com.booksy.domain.plan.entity.Plan;
+import com.booksy.domain.user.entity.User;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.*;
+
+/**
+ * 사용자/플랜/날짜별 독서 시간 집계 (time_record 의 일 단위 롤업)
+ * <p>
+ * 타이머 종료 시 함께 갱신되며, 통계/프로필/뱃지/랭킹의 독서 시간 조회는 이 테이블을 사용한다.
+ */
+@Entity
+@Table(name = "daily_reading_summary",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_daily_reading_summary_user_plan_date",
+        columnNames = {"user_id", "plan_id", "reading_date"}),
+    indexes = @Index(
+        name = "idx_daily_reading_summary_user_date",
+        columnList = "user_id, reading_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyReadingSummary {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private User user;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "plan_id", nullable = false)
+  private Plan plan;
+
+  @Column(name = "reading_date", nullable = false)
+  private LocalDate readingDate; // 타이머 시작 날짜 기준
+
+  @Column(name = "minutes", nullable = false)
+  private int minutes; // 해당 날짜 총 독서 시간 (분 단위)
+
+  @Column(name = "sessions", nullable = false)
+  private int sessions; // 해당 날짜 타이머 종료 횟수
+}
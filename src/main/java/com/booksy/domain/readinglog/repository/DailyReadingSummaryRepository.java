@@ -0,0 +1,108 @@
+package com.booksy.domain.readinglog.repository;
+
+import com.booksy.domain.readinglog.dto.DailyReadingMinutesDto;
+import com.booksy.domain.readinglog.entity.DailyReadingSummary;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyReadingSummaryRepository extends JpaRepository<DailyReadingSummary, Long> {
+
+  /**
+   * 종료된 타이머 한 건을 (사용자, 플랜, 날짜) 집계 행에 더함 (행이 없으면 생성)
+   * <p>
+   * 유니크 키 기준 단일 UPSERT라서 같은 날 타이머가 동시에 종료되어도 중복 키 오류 없이 모두 합산된다.
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO daily_reading_summary (user_id, plan_id, reading_date, minutes, sessions)
+      VALUES (:userId, :planId, :readingDate, :minutes, 1)
+      ON DUPLICATE KEY UPDATE minutes = minutes + :minutes, sessions = sessions + 1
+      """, nativeQuery = true)
+  int addSession(@Param("userId") Integer userId, @Param("planId") Long planId,
+      @Param("readingDate") LocalDate readingDate, @Param("minutes") int minutes);
+
+  /**
+   * 기간 내 종료된 타이머 기록으로 집계 행을 다시 계산해 덮어씀 (행이 없으면 생성, userId가 null이면 전체 사용자)
+   * <p>
+   * addSession과 같은 유니크 키 기준 UPSERT이며, 더하지 않고 time_record 합계로 교체한다.
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO daily_reading_summary (user_id, plan_id, reading_date, minutes, sessions)
+      SELECT tr.user_id, tr.plan_id, DATE(tr.start_time), SUM(tr.duration), COUNT(*)
+      FROM time_record tr
+      WHERE tr.end_time IS NOT NULL
+        AND (:userId IS NULL OR tr.user_id = :userId)
+        AND tr.start_time >= :from AND tr.start_time < :until
+      GROUP BY tr.user_id, tr.plan_id, DATE(tr.start_time)
+      ON DUPLICATE KEY UPDATE minutes = VALUES(minutes), sessions = VALUES(sessions)
+      """, nativeQuery = true)
+  int upsertFromTimeRecords(@Param("userId") Integer userId, @Param("from") LocalDateTime from,
+      @Param("until") LocalDateTime until);
+
+  /**
+   * 기간 내 집계 행 중 대응하는 종료된 타이머 기록이 더 이상 없는 행 삭제 (userId가 null이면 전체 사용자)
+   */
+  @Modifying
+  @Query(value = """
+      DELETE FROM daily_reading_summary
+      WHERE (:userId IS NULL OR user_id = :userId)
+        AND reading_date >= :fromDate AND reading_date < :untilDate
+        AND NOT EXISTS (
+          SELECT 1
+          FROM time_record tr
+          WHERE tr.user_id = daily_reading_summary.user_id
+            AND tr.plan_id = daily_reading_summary.plan_id
+            AND tr.end_time IS NOT NULL
+            AND tr.start_time >= :from AND tr.start_time < :until
+            AND DATE(tr.start_time) = daily_reading_summary.reading_date
+        )
+      """, nativeQuery = true)
+  int deleteOrphans(@Param("userId") Integer userId, @Param("fromDate") LocalDate fromDate,
+      @Param("untilDate") LocalDate untilDate, @Param("from") LocalDateTime from,
+      @Param("until") LocalDateTime until);
+
+  /**
+   * 하루의 총 독서시간 조회 쿼리
+   */
+  @Query("""
+          SELECT COALESCE(SUM(s.minutes), 0)
+          FROM DailyReadingSummary s
+          WHERE s.user.id = :userId
+            AND s.readingDate = :date
+      """)
+  int getTotalReadingMinutesByDate(@Param("userId") Integer userId, @Param("date") LocalDate date);
+
+  /**
+   * 타이머 완료 시 독서 시간 뱃지 조건 검사
+   */
+  @Query("""
+          SELECT COALESCE(SUM(s.minutes), 0)
+          FROM DailyReadingSummary s
+          WHERE s.user.id = :userId
+      """)
+  int getTotalReadingTime(@Param("userId") Integer userId);
+
+  /**
+   * 기간 내 날짜별 총 독서시간 조회 쿼리 (통계용, 기록이 없는 날짜는 포함되지 않음)
+   */
+  @Query("""
+          SELECT new com.booksy.domain.readinglog.dto.DailyReadingMinutesDto(
+              s.readingDate,
+              SUM(s.minutes)
+          )
+          FROM DailyReadingSummary s
+          WHERE s.user.id = :userId
+            AND s.readingDate BETWEEN :from AND :to
+          GROUP BY s.readingDate
+      """)
+  List<DailyReadingMinutesDto> getDailyReadingMinutes(@Param("userId") Integer userId,
+      @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -1,5 +1,6 @@
 package com.booksy.domain.readinglog.repository;
 
+import com.booksy.domain.readinglog.dto.DailyReadingSummaryRowDto;
 import com.booksy.domain.readinglog.entity.TimeRecord;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -46,26 +47,21 @@ public interface TimeRecordRepository extends JpaRepository<TimeRecord, Long> {
   );
 
   /**
-   * 타이머 완료 시 독서 시간 뱃지 조건 검사
+   * 종료된 타이머 기록을 사용자/플랜/날짜별로 집계 (일별 독서 집계 재구성용)
    */
   @Query("""
-        SELECT COALESCE(SUM(tr.duration), 0)
-        FROM TimeRecord tr
-        WHERE tr.user.id = :userId
-          AND tr.duration > 0
-      """)
-  int getTotalReadingTime(@Param("userId") Integer userId);
-
-  /**
-   * 하루의 총 독서시간 조회 쿼리
-   */
-  @Query("""
-          SELECT COALESCE(SUM(tr.duration), 0)
+          SELECT new com.booksy.domain.readinglog.dto.DailyReadingSummaryRowDto(
+              tr.user.id,
+              tr.plan.id,
+              CAST(tr.startTime AS LocalDate),
+              SUM(tr.duration),
+              COUNT(tr)
+          )
           FROM TimeRecord tr
-          WHERE tr.user.id = :userId
-            AND DATE(tr.startTime) = :date
+          WHERE tr.endTime IS NOT NULL
+          GROUP BY tr.user.id, tr.plan.id, CAST(tr.startTime AS LocalDate)
       """)
-  int getTotalReadingMinutesByDate(@Param("userId") Integer userId, @Param("date") LocalDate date);
+  List<DailyReadingSummaryRowDto> aggregateDailySummaries();
 
   /**
    * 특정 시간 범위에 해당하는 유저의 타이머 기록 전체 조회
@@ -0,0 +1,33 @@
+package com.booksy.domain.readinglog.scheculer;
+
+import com.booksy.domain.readinglog.service.DailyReadingSummaryService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyReadingSummaryScheduler {
+
+  private final DailyReadingSummaryService dailyReadingSummaryService;
+
+  // 재계산할 최근 일수 (어제까지)
+  @Value("${reading-summary.rebuild-days:7}")
+  private int rebuildDays;
+
+  // 매일 새벽, 최근 기록의 수정/삭제나 반영 실패로 어긋난 일별 독서 집계를 전체 사용자에 대해 재계산
+  @Scheduled(cron = "${reading-summary.rebuild-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+  public void rebuildRecentSummaries() {
+    LocalDate yesterday = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1);
+    try {
+      dailyReadingSummaryService.rebuild(null, yesterday.minusDays(rebuildDays - 1), yesterday);
+    } catch (RuntimeException e) {
+      log.warn("일별 독서 집계 재계산 실패: {}", e.getMessage());
+    }
+  }
+}
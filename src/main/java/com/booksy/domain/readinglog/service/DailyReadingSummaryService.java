@@ -0,0 +1,89 @@
+package com.booksy.domain.readinglog.service;
+
+import com.booksy.domain.plan.repository.PlanRepository;
+import com.booksy.domain.readinglog.dto.DailyReadingSummaryRowDto;
+import com.booksy.domain.readinglog.entity.DailyReadingSummary;
+import com.booksy.domain.readinglog.entity.TimeRecord;
+import com.booksy.domain.readinglog.repository.DailyReadingSummaryRepository;
+import com.booksy.domain.readinglog.repository.TimeRecordRepository;
+import com.booksy.domain.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일별 독서 시간 집계(daily_reading_summary) 관리 서비스
+ * <p>
+ * 타이머가 종료될 때마다 증분으로 반영하고, 기록 수정/삭제나 반영 실패로 어긋난 집계는 time_record 기준 재계산(rebuild)으로 보정한다. 최근 며칠은
+ * 매일 새벽 재계산하며(DailyReadingSummaryScheduler), 그보다 오래된 기간은 rebuild를 직접 호출해 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyReadingSummaryService {
+
+  private final DailyReadingSummaryRepository dailyReadingSummaryRepository;
+  private final TimeRecordRepository timeRecordRepository;
+  private final UserRepository userRepository;
+  private final PlanRepository planRepository;
+
+  /**
+   * 종료된 타이머 기록을 해당 날짜 집계에 반영 (타이머 종료 트랜잭션 안에서 호출)
+   */
+  @Transactional
+  public void record(TimeRecord timeRecord) {
+    dailyReadingSummaryRepository.addSession(timeRecord.getUser().getId(),
+        timeRecord.getPlan().getId(), timeRecord.getStartTime().toLocalDate(),
+        timeRecord.getDuration());
+  }
+
+  /**
+   * 기간 내 집계를 종료된 타이머 기록으로 다시 계산 (userId가 null이면 전체 사용자)
+   *
+   * @param from 시작 날짜 (포함)
+   * @param to   끝 날짜 (포함)
+   */
+  @Transactional
+  public void rebuild(Integer userId, LocalDate from, LocalDate to) {
+    LocalDate until = to.plusDays(1);
+    int upserted = dailyReadingSummaryRepository.upsertFromTimeRecords(userId,
+        from.atStartOfDay(), until.atStartOfDay());
+    int deleted = dailyReadingSummaryRepository.deleteOrphans(userId, from, until,
+        from.atStartOfDay(), until.atStartOfDay());
+    log.info("일별 독서 집계 재계산: {} ~ {} (userId={}), 갱신 {}건, 삭제 {}건",
+        from, to, userId, upserted, deleted);
+  }
+
+  /**
+   * 집계 테이블이 비어 있으면 기존 타이머 기록으로 백필 (최초 배포 시, 랭킹 리더보드 구성보다 먼저 실행)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @Transactional
+  public void backfillIfEmpty() {
+    if (dailyReadingSummaryRepository.count() > 0 || timeRecordRepository.count() == 0) {
+      return;
+    }
+
+    List<DailyReadingSummaryRowDto> rows = timeRecordRepository.aggregateDailySummaries();
+    List<DailyReadingSummary> summaries = rows.stream()
+        .map(row -> DailyReadingSummary.builder()
+            .user(userRepository.getReferenceById(row.getUserId()))
+            .plan(planRepository.getReferenceById(row.getPlanId()))
+            .readingDate(row.getReadingDate())
+            .minutes(row.getMinutes().intValue())
+            .sessions(row.getSessions().intValue())
+            .build())
+        .toList();
+
+    dailyReadingSummaryRepository.saveAll(summaries);
+    log.info("일별 독서 집계 백필 완료: {}건", summaries.size());
+  }
+}
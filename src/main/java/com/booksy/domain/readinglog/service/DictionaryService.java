@@ -1,11 +1,14 @@
 package com.booksy.domain.readinglog.service;
 
 import com.booksy.domain.readinglog.dto.DictionaryResponseDto;
+import com.booksy.global.resilience.ExternalApiGuard;
+import com.booksy.global.resilience.Upstream;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -22,7 +25,9 @@ public class DictionaryService {
   @Value("${external.dictionary.base-url}")
   private String baseUrl;
 
-  private final RestTemplate restTemplate = new RestTemplate();
+  @Qualifier("dictionaryRestTemplate")
+  private final RestTemplate restTemplate;
+  private final ExternalApiGuard externalApiGuard;
   private final ObjectMapper objectMapper = new ObjectMapper();
 
   /**
@@ -41,12 +46,13 @@ public class DictionaryService {
       headers.setAccept(List.of(MediaType.APPLICATION_JSON));
       HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-      ResponseEntity<String> response = restTemplate.exchange(
-          url,
-          HttpMethod.GET,
-          entity,
-          String.class
-      );
+      ResponseEntity<String> response = externalApiGuard.call(Upstream.DICTIONARY,
+          () -> restTemplate.exchange(
+              url,
+              HttpMethod.GET,
+              entity,
+              String.class
+          ));
 
       JsonNode root = objectMapper.readTree(response.getBody());
       JsonNode items = root.path("channel").path("item");
@@ -4,6 +4,7 @@ import com.booksy.domain.badge.service.BadgeService;
 import com.booksy.domain.plan.entity.Plan;
 import com.booksy.domain.plan.repository.PlanRepository;
 import com.booksy.domain.plan.type.PlanStatus;
+import com.booksy.domain.ranking.service.LeaderboardService;
 import com.booksy.domain.readinglog.dto.*;
 import com.booksy.domain.readinglog.entity.TimeRecord;
 import com.booksy.domain.readinglog.repository.TimeRecordRepository;
@@ -19,6 +20,7 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +30,8 @@ public class TimeRecordService {
   private final PlanRepository planRepository;
   private final UserService userService;
   private final BadgeService badgeService;
+  private final LeaderboardService leaderboardService;
+  private final DailyReadingSummaryService dailyReadingSummaryService;
 
   /**
    * 타이머 시작 처리
@@ -74,6 +78,7 @@ public class TimeRecordService {
   /**
    * 타이머 종료 처리
    */
+  @Transactional
   public TimeRecordStopResponseDto stopTimer(TimeRecordStopRequestDto requestDto,
       Authentication authentication) {
     User user = userService.getCurrentUser(authentication);
@@ -102,7 +107,8 @@ public class TimeRecordService {
     }
 
     // 완독한 경우 → 플랜 and 카테고리 뱃지 평가
-    if (currentPage == totalPage) {
+    boolean completed = currentPage == totalPage;
+    if (completed) {
       plan.setStatus(com.booksy.domain.plan.type.PlanStatus.COMPLETED);
       badgeService.evaluatePlanBadges(user);
     }
@@ -118,9 +124,18 @@ public class TimeRecordService {
     timeRecord.setDuration((int) minutes);
     timeRecordRepository.save(timeRecord);
 
+    // 일별 독서 집계 갱신
+    dailyReadingSummaryService.record(timeRecord);
+
     plan.setCurrentPage(requestDto.getCurrentPage());
     planRepository.save(plan);
 
+    // 랭킹 리더보드 증분 반영
+    leaderboardService.recordReadingTime(user.getId(), startTime, (int) minutes);
+    if (completed) {
+      leaderboardService.recordCompletedPlan(user.getId());
+    }
+
     // 응답 DTO 반환
     return new TimeRecordStopResponseDto(
         startTime,
@@ -1,6 +1,7 @@
 package com.booksy.domain.user.dto;
 
 import com.booksy.domain.user.entity.Gender;
+import java.time.LocalTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,4 +21,5 @@ public class InfoResponse {
   private Gender gender;
   private String profileImage;
   private List<Long> preferredCategoryIds;
+  private LocalTime reminderTime;
 }
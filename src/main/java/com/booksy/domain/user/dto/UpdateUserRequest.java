@@ -1,6 +1,7 @@
 package com.booksy.domain.user.dto;
 
 import com.booksy.domain.user.entity.Gender;
+import java.time.LocalTime;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,4 +19,5 @@ public class UpdateUserRequest {
   private Integer age;                // 나이
   private Gender gender;              // 성별
   private List<Long> preferredCategoryIds; // 선호장르
+  private LocalTime reminderTime;     // 독서 알림 희망 시각 (HH:mm)
 }
@@ -2,7 +2,9 @@ package com.booksy.domain.user.entity;
 
 import com.booksy.domain.category.entity.UserCategory;
 import jakarta.persistence.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.*;
@@ -50,6 +52,15 @@ public class User {
   @Column(nullable = false)
   private Boolean isPushEnabled = true;
 
+  @Column(name = "reminder_time") // 독서 알림 희망 시각 (null이면 기본 시각)
+  private LocalTime reminderTime;
+
+  @Column(name = "last_reminded_on") // 마지막으로 독서 알림을 발송(선점)한 날짜
+  private LocalDate lastRemindedOn;
+
+  @Column(name = "reminder_claim", length = 36) // 마지막 알림을 선점한 발송 회차 ID
+  private String reminderClaim;
+
   @CreationTimestamp  // 생성 시간 자동 입력
   private LocalDateTime createdAt;
 
@@ -88,6 +99,10 @@ public class User {
     this.nickname = nickname;
   }
 
+  public void updateReminderTime(LocalTime reminderTime) {
+    this.reminderTime = reminderTime;
+  }
+
   public void updateLevel(int level) {
     this.level = level;
   }
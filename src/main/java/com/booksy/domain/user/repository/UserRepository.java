@@ -2,9 +2,16 @@ package com.booksy.domain.user.repository;
 
 import com.booksy.domain.user.entity.Provider;
 import com.booksy.domain.user.entity.User;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 
@@ -18,7 +25,41 @@ public interface UserRepository extends JpaRepository<User, Integer> {
    */
   Optional<User> findByProviderAndProviderUserId(Provider provider, String providerUserId);
 
-  // 푸시알림 설정한 유저 찾기
-  List<User> findByIsPushEnabledTrue();
+  /**
+   * 주어진 사용자들의 해당 날짜 독서 알림 발송권을 선점 (이미 그날 발송된 사용자, 푸시 수신 거부 사용자, 현재 희망 시각이 아직 되지 않은
+   * 사용자는 제외)
+   * <p>
+   * 조건부 UPDATE라서 여러 서버가 같은 사용자를 동시에 처리해도 한 곳만 선점하며, 선점한 행에는 claim 값이 남는다. 희망 시각은 DB의 현재
+   * 값으로 다시 확인하므로, 다른 서버에서 바뀐 시각을 모르는 서버가 예전 시각에 먼저 보내지 않는다.
+   *
+   * @param dueBy       이 시각까지 희망 시각이 된 사용자만 선점
+   * @param defaultTime 희망 시각을 정하지 않은 사용자의 발송 시각
+   * @return 선점한 사용자 수
+   */
+  @Modifying
+  @Query("""
+      UPDATE User u
+      SET u.lastRemindedOn = :date, u.reminderClaim = :claim
+      WHERE u.id IN :userIds
+        AND u.isPushEnabled = true
+        AND (u.lastRemindedOn IS NULL OR u.lastRemindedOn < :date)
+        AND COALESCE(u.reminderTime, :defaultTime) <= :dueBy
+      """)
+  int claimDailyReminders(@Param("userIds") Collection<Integer> userIds,
+      @Param("date") LocalDate date, @Param("dueBy") LocalTime dueBy,
+      @Param("defaultTime") LocalTime defaultTime, @Param("claim") String claim);
+
+  /**
+   * 발송 회차(claim)가 선점한 사용자 ID를 cursor 이후부터 id 순으로 조회 (알림 대상을 사용자 단위 키셋 청크로 나눌 때 사용)
+   */
+  @Query("""
+      SELECT u.id FROM User u
+      WHERE u.reminderClaim = :claim
+        AND u.lastRemindedOn = :date
+        AND u.id > :cursor
+      ORDER BY u.id ASC
+      """)
+  List<Integer> findClaimedUserIds(@Param("claim") String claim, @Param("date") LocalDate date,
+      @Param("cursor") Integer cursor, Limit limit);
 
 }
\ No newline at end of file
@@ -4,9 +4,10 @@ import com.booksy.domain.badge.repository.UserBadgeRepository;
 import com.booksy.domain.category.entity.Category;
 import com.booksy.domain.category.entity.UserCategory;
 import com.booksy.domain.category.repository.CategoryRepository;
+import com.booksy.domain.notification.service.ReminderScheduleService;
 import com.booksy.domain.plan.repository.PlanRepository;
 import com.booksy.domain.plan.type.PlanStatus;
-import com.booksy.domain.readinglog.repository.TimeRecordRepository;
+import com.booksy.domain.readinglog.repository.DailyReadingSummaryRepository;
 import com.booksy.domain.user.dto.*;
 import com.booksy.domain.user.entity.User;
 import com.booksy.domain.user.entity.UserStatus;
@@ -21,7 +22,9 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -42,8 +45,9 @@ public class UserService {
   private final JwtTokenProvider jwtTokenProvider;
   private final CategoryRepository categoryRepository;
   private final UserBadgeRepository userBadgeRepository;
-  private final TimeRecordRepository timeRecordRepository;
+  private final DailyReadingSummaryRepository dailyReadingSummaryRepository;
   private final PlanRepository planRepository;
+  private final ReminderScheduleService reminderScheduleService;
 
   /**
    * 회원가입 처리 - 이메일 중복 확인 - 닉네임 null이면 이메일로 대체 - 비밀번호 해시 - UserStatus는 ACTIVE로 설정 - 유저 저장 - 응답 메시지
@@ -167,6 +171,7 @@ public class UserService {
         .gender(user.getGender())
         .profileImage(user.getProfileImage())
         .preferredCategoryIds(preferredCategoryIds)
+        .reminderTime(user.getReminderTime())
         .build();
   }
 
@@ -217,6 +222,12 @@ public class UserService {
         updatePreferredGenres(user, request.getPreferredCategoryIds());
       }
 
+      // 독서 알림 희망 시각 (변경 즉시 알림 예약에 반영)
+      if (request.getReminderTime() != null) {
+        user.updateReminderTime(request.getReminderTime());
+        reminderScheduleService.reschedule(user);
+      }
+
       userRepository.save(user);
 
       return new UpdateUserResponse(200, "SUCCESS", "사용자 정보가 업데이트되었습니다.");
@@ -253,8 +264,8 @@ public class UserService {
    */
 
   public User getCurrentUser(Authentication authentication) {
-    String userId = authentication.getName(); // 토큰에 저장된 userId 추출
-    return userRepository.findById(Integer.parseInt(userId))
+    Integer userId = Integer.parseInt(authentication.getName()); // 토큰에 저장된 userId 추출
+    return userRepository.findById(userId)
         .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
   }
 
@@ -297,7 +308,7 @@ public class UserService {
     LocalDate yesterday = LocalDate.now().minusDays(1);
 
     // 어제 독서 시간 (분 단위 합계 → hh:mm:ss 변환)
-    int minutes = timeRecordRepository.getTotalReadingMinutesByDate(userId, yesterday);
+    int minutes = dailyReadingSummaryRepository.getTotalReadingMinutesByDate(userId, yesterday);
     String formattedTime = formatMinutesToHHMM(minutes);
 
     // COMPLETED 상태 플랜 개수 (완독 수)
@@ -337,8 +348,10 @@ public class UserService {
     LocalDate firstDay = today.withDayOfMonth(1);
     LocalDate lastDay = today.withDayOfMonth(today.lengthOfMonth());
 
+    Map<LocalDate, Integer> dailyMinutes = getDailyReadingMinutes(userId, firstDay, lastDay);
+
     for (LocalDate date = firstDay; !date.isAfter(lastDay); date = date.plusDays(1)) {
-      int totalMinutes = timeRecordRepository.getTotalReadingMinutesByDate(userId, date);
+      int totalMinutes = dailyMinutes.getOrDefault(date, 0);
       result.add(new ReadingStatisticsItemDto(
           date.toString(),
           formatToHHMM(totalMinutes),
@@ -355,13 +368,14 @@ public class UserService {
     List<ReadingStatisticsItemDto> result = new ArrayList<>();
     LocalDate today = LocalDate.now();
     LocalDate endOfWeek = today.with(DayOfWeek.SATURDAY);
+
+    Map<LocalDate, Integer> dailyMinutes = getDailyReadingMinutes(userId,
+        endOfWeek.minusWeeks(3).minusDays(6), endOfWeek);
+
     for (int i = 3; i >= 0; i--) {
       LocalDate end = endOfWeek.minusWeeks(i);
       LocalDate start = end.minusDays(6);
-      int totalMinutes = 0;
-      for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
-        totalMinutes += timeRecordRepository.getTotalReadingMinutesByDate(userId, d);
-      }
+      int totalMinutes = sumMinutes(dailyMinutes, start, end);
       int averageMinutes = totalMinutes / 7;
       String label = start + " ~ " + end;
       result.add(new ReadingStatisticsItemDto(
@@ -379,13 +393,13 @@ public class UserService {
   private List<ReadingStatisticsItemDto> getMonthlyStatistics(Integer userId) {
     List<ReadingStatisticsItemDto> result = new ArrayList<>();
     YearMonth thisMonth = YearMonth.now();
+
+    Map<LocalDate, Integer> dailyMinutes = getDailyReadingMinutes(userId,
+        LocalDate.of(thisMonth.getYear(), 1, 1), LocalDate.of(thisMonth.getYear(), 12, 31));
+
     for (int i = 1; i <= 12; i++) {
       YearMonth ym = YearMonth.of(thisMonth.getYear(), i);
-      int totalMinutes = 0;
-      for (int d = 1; d <= ym.lengthOfMonth(); d++) {
-        LocalDate date = ym.atDay(d);
-        totalMinutes += timeRecordRepository.getTotalReadingMinutesByDate(userId, date);
-      }
+      int totalMinutes = sumMinutes(dailyMinutes, ym.atDay(1), ym.atEndOfMonth());
       int averageMinutes = totalMinutes / ym.lengthOfMonth();
       result.add(new ReadingStatisticsItemDto(
           ym.toString(),
@@ -396,6 +410,28 @@ public class UserService {
     return result;
   }
 
+  /**
+   * 기간 내 날짜별 총 독서 시간을 한 번의 쿼리로 조회 (기록이 없는 날짜는 제외)
+   */
+  private Map<LocalDate, Integer> getDailyReadingMinutes(Integer userId, LocalDate from,
+      LocalDate to) {
+    Map<LocalDate, Integer> result = new HashMap<>();
+    dailyReadingSummaryRepository.getDailyReadingMinutes(userId, from, to)
+        .forEach(row -> result.put(row.getDate(), row.getMinutes().intValue()));
+    return result;
+  }
+
+  /**
+   * 날짜별 독서 시간 중 [start, end] 구간의 합계
+   */
+  private int sumMinutes(Map<LocalDate, Integer> dailyMinutes, LocalDate start, LocalDate end) {
+    int total = 0;
+    for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+      total += dailyMinutes.getOrDefault(d, 0);
+    }
+    return total;
+  }
+
   /**
    * 분 단위 시간을 "HH:MM" 형식으로 변환
    */
@@ -1,11 +1,14 @@
 package com.booksy.global.ai;
 
+import com.booksy.global.resilience.ExternalApiGuard;
+import com.booksy.global.resilience.Upstream;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -22,10 +25,12 @@ public class OpenAiClient {
   private String apiKey;
 
   private final ObjectMapper objectMapper;
+  private final ExternalApiGuard externalApiGuard;
 
   private static final String API_URL = "https://api.openai.com/v1/chat/completions";
 
-  RestTemplate restTemplate = new RestTemplate();
+  @Qualifier("openAiRestTemplate")
+  private final RestTemplate restTemplate;
 
   public String askDifficulty(String title, String summary) {
     String prompt = String.format(
@@ -64,7 +69,12 @@ public class OpenAiClient {
 
     HttpEntity<ChatRequest> entity = new HttpEntity<>(request, headers);
 
-    ResponseEntity<String> response = restTemplate.postForEntity(API_URL, entity, String.class);
+    // OpenAI가 막히거나 실패하면 null (호출 측에서 기본 난이도 사용)
+    ResponseEntity<String> response = externalApiGuard.call(Upstream.OPENAI,
+      () -> restTemplate.postForEntity(API_URL, entity, String.class), () -> null);
+    if (response == null) {
+      return null;
+    }
 
     try {
       ChatResponse chatResponse = objectMapper.readValue(response.getBody(), ChatResponse.class);
@@ -100,7 +110,8 @@ public class OpenAiClient {
 
     HttpEntity<ChatRequest> entity = new HttpEntity<>(request, headers);
 
-    ResponseEntity<String> response = restTemplate.postForEntity(API_URL, entity, String.class);
+    ResponseEntity<String> response = externalApiGuard.call(Upstream.OPENAI,
+      () -> restTemplate.postForEntity(API_URL, entity, String.class));
 
     try {
       return objectMapper.readTree(response.getBody())
@@ -0,0 +1,88 @@
+package com.booksy.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업용 스레드 풀 설정
+ */
+@Configuration
+public class ExecutorConfig {
+
+  /**
+   * 푸시 배치 발송용 풀 (큐가 가득 차면 호출 스레드에서 실행하여 자연스럽게 속도 조절)
+   */
+  @Bean
+  public ThreadPoolTaskExecutor pushExecutor(
+      @Value("${push.fanout.threads:4}") int threads,
+      @Value("${push.fanout.queue-capacity:16}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("push-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  /**
+   * 푸시 발송 대기열(outbox) 워커용 풀 (워커마다 스레드 하나를 계속 점유)
+   */
+  @Bean
+  public ThreadPoolTaskExecutor pushOutboxExecutor(
+      @Value("${push.outbox.workers:2}") int workers) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(workers);
+    executor.setMaxPoolSize(workers);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("push-outbox-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  /**
+   * 캐시 백그라운드 갱신용 풀 (큐가 가득 차면 갱신을 건너뛰고 기존 값을 계속 사용)
+   */
+  @Bean
+  public ThreadPoolTaskExecutor cacheRefreshExecutor(
+      @Value("${cache.refresh.threads:2}") int threads,
+      @Value("${cache.refresh.queue-capacity:256}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("cache-refresh-");
+    return executor;
+  }
+
+  /**
+   * 도서관 소장/대출 여부 동시 조회용 풀 (도서관 API 동시 호출 상한보다 작게 두고, 큐가 가득 차면 해당 도서관은 확인 실패로 처리)
+   */
+  @Bean
+  public ThreadPoolTaskExecutor libraryAvailabilityExecutor(
+      @Value("${external.library.availability.threads:16}") int threads,
+      @Value("${external.library.availability.queue-capacity:256}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("library-availability-");
+    return executor;
+  }
+
+  /**
+   * 예약 작업(@Scheduled) 스케줄러 스레드 수 (도서관 목록 동기화처럼 오래 걸리는 작업이 매분 알림 발송 등 다른 예약 작업을 막지 않도록)
+   */
+  @Bean
+  public ThreadPoolTaskSchedulerCustomizer schedulerPoolSizeCustomizer(
+      @Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+    return scheduler -> scheduler.setPoolSize(poolSize);
+  }
+}
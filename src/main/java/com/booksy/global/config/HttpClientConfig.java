@@ -0,0 +1,142 @@
+package com.booksy.global.config;
+
+import io.micrometer.common.KeyValue;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정
+ * <p>
+ * 모든 외부 연동이 호스트별 커넥션 풀을 가진 Apache HttpClient 하나를 공유하고(keep-alive 재사용, gzip 응답 자동 해제), 연동마다 응답 대기
+ * 시간만 다르게 준 RestTemplate을 사용한다. RestTemplate은 Boot의 RestTemplateBuilder로 만들어 호출마다 http.client.requests 타이머가
+ * 대상 호스트별로 기록된다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+  // 풀의 커넥션이 모두 사용 중일 때 빌려오기까지 기다리는 최대 시간
+  @Value("${external.http.pool-wait-timeout:1s}")
+  private Duration poolWaitTimeout;
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient externalHttpClient(
+      @Value("${external.http.max-connections:200}") int maxConnections,
+      @Value("${external.http.max-connections-per-host:50}") int maxConnectionsPerHost,
+      @Value("${external.http.connect-timeout:2s}") Duration connectTimeout,
+      @Value("${external.http.idle-timeout:30s}") Duration idleTimeout,
+      @Value("${external.http.connection-ttl:5m}") Duration connectionTtl) {
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerHost)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setTimeToLive(TimeValue.of(connectionTtl))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                .build())
+            .build();
+
+    // 실패한 호출의 재시도는 circuit breaker 판단에 맡기고 클라이언트 자동 재시도(503 등)는 끈다
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .disableAutomaticRetries()
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.of(idleTimeout))
+        .build();
+  }
+
+  /**
+   * 알라딘 도서 검색/조회
+   */
+  @Bean
+  public RestTemplate aladinRestTemplate(RestTemplateBuilder builder,
+      CloseableHttpClient externalHttpClient,
+      @Value("${external.http.aladin.read-timeout:5s}") Duration readTimeout) {
+    return restTemplate(builder, externalHttpClient, readTimeout);
+  }
+
+  /**
+   * 도서관 정보나루 (도서관 목록, 소장/대출 여부)
+   */
+  @Bean
+  public RestTemplate libraryRestTemplate(RestTemplateBuilder builder,
+      CloseableHttpClient externalHttpClient,
+      @Value("${external.http.library.read-timeout:10s}") Duration readTimeout) {
+    return restTemplate(builder, externalHttpClient, readTimeout);
+  }
+
+  /**
+   * OpenAI (응답 생성 시간이 길어 대기 시간을 넉넉히 둔다)
+   */
+  @Bean
+  public RestTemplate openAiRestTemplate(RestTemplateBuilder builder,
+      CloseableHttpClient externalHttpClient,
+      @Value("${external.http.openai.read-timeout:30s}") Duration readTimeout) {
+    return restTemplate(builder, externalHttpClient, readTimeout);
+  }
+
+  /**
+   * 표준국어대사전
+   */
+  @Bean
+  public RestTemplate dictionaryRestTemplate(RestTemplateBuilder builder,
+      CloseableHttpClient externalHttpClient,
+      @Value("${external.http.dictionary.read-timeout:3s}") Duration readTimeout) {
+    return restTemplate(builder, externalHttpClient, readTimeout);
+  }
+
+  /**
+   * 소셜 로그인 사용자 정보 조회 (카카오, 네이버)
+   */
+  @Bean
+  public RestTemplate oauthRestTemplate(RestTemplateBuilder builder,
+      CloseableHttpClient externalHttpClient,
+      @Value("${external.http.oauth.read-timeout:3s}") Duration readTimeout) {
+    return restTemplate(builder, externalHttpClient, readTimeout);
+  }
+
+  /**
+   * http.client.requests 타이머의 uri 태그에서 쿼리 문자열 제거
+   * <p>
+   * URL 문자열로 호출하면 쿼리(검색어, API 키 포함)까지 태그에 들어가 태그 수가 무한히 늘어나므로 경로만 남긴다.
+   */
+  @Bean
+  public ClientRequestObservationConvention clientRequestObservationConvention() {
+    return new DefaultClientRequestObservationConvention() {
+      @Override
+      protected KeyValue uri(ClientRequestObservationContext context) {
+        KeyValue uri = super.uri(context);
+        int query = uri.getValue().indexOf('?');
+        return query < 0 ? uri : KeyValue.of(uri.getKey(), uri.getValue().substring(0, query));
+      }
+    };
+  }
+
+  private RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient,
+      Duration readTimeout) {
+    return builder
+        .requestFactory(() -> {
+          HttpComponentsClientHttpRequestFactory factory =
+              new HttpComponentsClientHttpRequestFactory(httpClient);
+          factory.setConnectionRequestTimeout(poolWaitTimeout);
+          factory.setReadTimeout(readTimeout);
+          return factory;
+        })
+        .build();
+  }
+}
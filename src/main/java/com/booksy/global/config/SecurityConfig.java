@@ -1,6 +1,5 @@
 package com.booksy.global.config;
 
-import com.booksy.global.security.CustomUserDetailsService;
 import com.booksy.global.security.JwtAuthenticationFilter;
 import com.booksy.global.util.JwtTokenProvider;
 import java.util.Arrays;
@@ -27,7 +26,6 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
   private final JwtTokenProvider jwtTokenProvider;
-  private final CustomUserDetailsService userDetailsService;
 
   @Bean
   public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -44,7 +42,7 @@ public class SecurityConfig {
         .permitAll()
         .anyRequest().authenticated()
       )
-      .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService),
+      .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
         UsernamePasswordAuthenticationFilter.class);
 
     return http.build();
@@ -20,6 +20,7 @@ public enum ErrorCode {
   INVALID_TYPE_VALUE(400, "C007", "Invalid Type Value", LogLevel.ERROR),
   UNAUTHORIZED_ACCESS(403, "C008", "user id mismatch", LogLevel.ERROR),
   POSITIVE_VALUE_REQUIRED(400, "C009", "Value must be positive", LogLevel.ERROR),
+  EXTERNAL_API_UNAVAILABLE(503, "C010", "External API temporarily unavailable", LogLevel.WARN),
 
   // ENTITY
   ENTITY_NOT_FOUND(404, "E001", "Entity not found", LogLevel.WARN),
@@ -50,6 +51,7 @@ public enum ErrorCode {
       LogLevel.WARN),
   ILLEGAL_PAGE_OVERFLOW(400, "P005",
       "Current page cannot exceed the total number of pages in the book.", LogLevel.WARN),
+  INVALID_PLAN_PERIOD(400, "P006", "Invalid plan period", LogLevel.WARN),
 
   // CATEGORY
   CATEGORY_SAVE_FAILED(500, "CA001", "Failed to save category", LogLevel.ERROR),
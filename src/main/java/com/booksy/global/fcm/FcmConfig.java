@@ -6,10 +6,12 @@ import com.google.firebase.FirebaseOptions;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 
 @Configuration
+@ConditionalOnProperty(name = "push.sender", havingValue = "firebase", matchIfMissing = true)
 public class FcmConfig {
 
   @PostConstruct
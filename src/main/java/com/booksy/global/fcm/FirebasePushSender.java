@@ -0,0 +1,62 @@
+package com.booksy.global.fcm;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM sendEach 기반 푸시 발송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebasePushSender implements PushSender {
+
+  @Override
+  public List<PushResult> send(List<PushMessage> messages) {
+    if (messages.isEmpty()) {
+      return List.of();
+    }
+    if (messages.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("FCM 배치 최대 크기 초과: " + messages.size());
+    }
+
+    List<Message> fcmMessages = messages.stream()
+        .map(message -> Message.builder()
+            .setToken(message.token())
+            .setNotification(Notification.builder()
+                .setTitle(message.title())
+                .setBody(message.body())
+                .build())
+            .build())
+        .toList();
+
+    List<PushResult> results = new ArrayList<>(messages.size());
+    try {
+      BatchResponse batch = FirebaseMessaging.getInstance().sendEach(fcmMessages);
+      List<SendResponse> responses = batch.getResponses();
+      for (int i = 0; i < responses.size(); i++) {
+        SendResponse response = responses.get(i);
+        String token = messages.get(i).token();
+        results.add(response.isSuccessful()
+            ? PushResult.success(token)
+            : PushResult.failure(token, response.getException().getMessagingErrorCode()));
+      }
+    } catch (FirebaseMessagingException e) {
+      // 배치 전체 실패 (인증/네트워크 등): 토큰 문제가 아니므로 에러 코드 없이 재시도 가능한 실패로 처리 (토큰 삭제 대상 아님)
+      log.error("❌ FCM 배치 전송 실패: {}건 ({})", messages.size(), e.getMessagingErrorCode(), e);
+      for (PushMessage message : messages) {
+        results.add(PushResult.failure(message.token(), null));
+      }
+    }
+    return results;
+  }
+}
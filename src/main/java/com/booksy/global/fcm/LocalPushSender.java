@@ -0,0 +1,49 @@
+package com.booksy.global.fcm;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/테스트용 푸시 발송 대체 구현 (FCM 호출 없이 성공 처리)
+ * <p>
+ * push.sender=local 일 때 사용되며, push.local.latency-ms로 배치당 지연을 흉내 낼 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "push.sender", havingValue = "local")
+public class LocalPushSender implements PushSender {
+
+  private final long latencyMs;
+  private final AtomicLong sentCount = new AtomicLong();
+
+  public LocalPushSender(@Value("${push.local.latency-ms:0}") long latencyMs) {
+    this.latencyMs = latencyMs;
+  }
+
+  @Override
+  public List<PushResult> send(List<PushMessage> messages) {
+    if (latencyMs > 0) {
+      try {
+        Thread.sleep(latencyMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    sentCount.addAndGet(messages.size());
+    log.debug("로컬 푸시 발송: {}건", messages.size());
+    return messages.stream()
+        .map(message -> PushResult.success(message.token()))
+        .toList();
+  }
+
+  /**
+   * 지금까지 발송 처리한 메시지 수
+   */
+  public long getSentCount() {
+    return sentCount.get();
+  }
+}
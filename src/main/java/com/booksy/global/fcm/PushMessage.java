@@ -0,0 +1,12 @@
+package com.booksy.global.fcm;
+
+/**
+ * 단일 기기로 보낼 푸시 메시지
+ *
+ * @param token FCM 기기 토큰
+ * @param title 알림 제목
+ * @param body  알림 본문
+ */
+public record PushMessage(String token, String title, String body) {
+
+}
@@ -0,0 +1,49 @@
+package com.booksy.global.fcm;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * 메시지 한 건의 발송 결과
+ *
+ * @param token     FCM 기기 토큰
+ * @param success   발송 성공 여부
+ * @param errorCode   실패 시 메시지별 FCM 에러 코드 (성공이거나 배치 전체 실패 등으로 알 수 없으면 null)
+ * @param retryQueued 재시도 대기열에 실제로 들어갔는지 여부
+ */
+public record PushResult(String token, boolean success, MessagingErrorCode errorCode,
+                         boolean retryQueued) {
+
+  public static PushResult success(String token) {
+    return new PushResult(token, true, null, false);
+  }
+
+  public static PushResult failure(String token, MessagingErrorCode errorCode) {
+    return new PushResult(token, false, errorCode, false);
+  }
+
+  /**
+   * 재시도 대기열에 넣은 결과로 표시한 사본
+   */
+  public PushResult withRetryQueued() {
+    return new PushResult(token, success, errorCode, true);
+  }
+
+  /**
+   * 더 이상 유효하지 않은 토큰이라 삭제해야 하는 실패인지 (앱 삭제/토큰 만료/다른 프로젝트 토큰 등)
+   */
+  public boolean isDeadToken() {
+    return !success && (errorCode == MessagingErrorCode.UNREGISTERED
+        || errorCode == MessagingErrorCode.INVALID_ARGUMENT
+        || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH);
+  }
+
+  /**
+   * 잠시 후 다시 보내면 성공할 수 있는 일시적 실패인지 (원인을 알 수 없는 실패 포함)
+   */
+  public boolean isRetryable() {
+    return !success && (errorCode == null
+        || errorCode == MessagingErrorCode.UNAVAILABLE
+        || errorCode == MessagingErrorCode.INTERNAL
+        || errorCode == MessagingErrorCode.QUOTA_EXCEEDED);
+  }
+}
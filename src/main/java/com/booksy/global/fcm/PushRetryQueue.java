@@ -0,0 +1,64 @@
+package com.booksy.global.fcm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일시적으로 실패한 푸시 메시지의 재시도 대기열 (용량 제한)
+ * <p>
+ * 재시도 시각이 된 항목만 꺼낼 수 있으며, 용량이 차면 새 항목을 받지 않아 장애가 길어져도 메모리가 무한히 늘지 않는다.
+ */
+public class PushRetryQueue {
+
+  private final DelayQueue<Item> queue = new DelayQueue<>();
+  private final int capacity;
+
+  public PushRetryQueue(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * delayMs 후에 재시도할 메시지 추가
+   *
+   * @param attempt 재시도 시 몇 번째 시도인지 (첫 발송이 1)
+   * @return 용량 초과로 추가하지 못하면 false
+   */
+  public synchronized boolean offer(PushMessage message, int attempt, long delayMs) {
+    if (queue.size() >= capacity) {
+      return false;
+    }
+    return queue.offer(new Item(message, attempt, System.nanoTime() + delayMs * 1_000_000));
+  }
+
+  /**
+   * 재시도 시각이 된 항목을 모두 꺼낸다.
+   */
+  public List<Item> drainDue() {
+    List<Item> due = new ArrayList<>();
+    queue.drainTo(due);
+    return due;
+  }
+
+  public int size() {
+    return queue.size();
+  }
+
+  /**
+   * 재시도 항목 (메시지, 시도 차수, 재시도 시각 nanoTime)
+   */
+  public record Item(PushMessage message, int attempt, long dueAt) implements Delayed {
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(dueAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.booksy.global.fcm;
+
+import java.util.List;
+
+/**
+ * 푸시 발송 게이트웨이 (FCM 또는 로컬 대체 구현)
+ * <p>
+ * push.sender=firebase(기본값)이면 {@link FirebasePushSender}, local이면 {@link LocalPushSender}가 사용된다.
+ */
+public interface PushSender {
+
+  // FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수
+  int MAX_BATCH_SIZE = 500;
+
+  /**
+   * 메시지 묶음 발송 (최대 {@link #MAX_BATCH_SIZE}건)
+   *
+   * @return 입력 순서와 같은 순서의 발송 결과
+   */
+  List<PushResult> send(List<PushMessage> messages);
+}
@@ -0,0 +1,54 @@
+package com.booksy.global.fcm;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 발송 회차별 결과 집계 (발송/성공/실패/토큰 삭제/실제로 재시도 대기열에 넣은 건수), 여러 발송 스레드에서 동시에 누적할 수 있다.
+ */
+public class PushStats {
+
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder success = new LongAdder();
+  private final LongAdder pruned = new LongAdder();
+  private final LongAdder retried = new LongAdder();
+
+  public void add(List<PushResult> results) {
+    for (PushResult result : results) {
+      sent.increment();
+      if (result.success()) {
+        success.increment();
+      } else if (result.isDeadToken()) {
+        pruned.increment();
+      } else if (result.retryQueued()) {
+        retried.increment();
+      }
+    }
+  }
+
+  public long getSent() {
+    return sent.sum();
+  }
+
+  public long getSuccess() {
+    return success.sum();
+  }
+
+  public long getFailed() {
+    return sent.sum() - success.sum();
+  }
+
+  public long getPruned() {
+    return pruned.sum();
+  }
+
+  public long getRetried() {
+    return retried.sum();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("발송 %d건 (성공 %d, 실패 %d, 토큰 삭제 %d, 재시도 %d)",
+        getSent(), getSuccess(), getFailed(), getPruned(), getRetried());
+  }
+}
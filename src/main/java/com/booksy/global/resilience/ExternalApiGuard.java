@@ -0,0 +1,114 @@
+package com.booksy.global.resilience;
+
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 외부 API 호출을 연동 대상별 bulkhead + circuit breaker로 감싸는 컴포넌트
+ * <p>
+ * bulkhead는 한 연동의 동시 호출 수를 제한해 느린 외부 API가 요청 스레드를 모두 붙잡지 못하게 하고, circuit breaker는 최근 호출의 실패/느린
+ * 호출 비율이 높으면 일정 시간 호출을 막았다가(open) 몇 건만 시험 호출(half-open)해 회복 여부를 판단한다. 호출이 막히거나 실패하면 fallback이
+ * 있으면 그 값을, 없으면 EXTERNAL_API_UNAVAILABLE 예외를 돌려준다.
+ */
+@Slf4j
+@Component
+public class ExternalApiGuard {
+
+  private final Map<Upstream, Bulkhead> bulkheads = new EnumMap<>(Upstream.class);
+  private final Map<Upstream, CircuitBreaker> circuitBreakers = new EnumMap<>(Upstream.class);
+
+  public ExternalApiGuard(Environment environment, MeterRegistry meterRegistry) {
+    BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    for (Upstream upstream : Upstream.values()) {
+      String prefix = "external.resilience." + upstream.getKey() + ".";
+
+      bulkheads.put(upstream, bulkheadRegistry.bulkhead(upstream.getKey(), BulkheadConfig.custom()
+          .maxConcurrentCalls(environment.getProperty(prefix + "max-concurrent-calls",
+              Integer.class, upstream.getMaxConcurrentCalls()))
+          .maxWaitDuration(environment.getProperty(prefix + "max-wait",
+              Duration.class, Duration.ofMillis(100)))
+          .build()));
+
+      CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(upstream.getKey(),
+          CircuitBreakerConfig.custom()
+              .slidingWindowSize(environment.getProperty(prefix + "sliding-window-size",
+                  Integer.class, 20))
+              .minimumNumberOfCalls(environment.getProperty(prefix + "minimum-calls",
+                  Integer.class, 10))
+              .failureRateThreshold(50)
+              .slowCallRateThreshold(80)
+              .slowCallDurationThreshold(environment.getProperty(prefix + "slow-call-threshold",
+                  Duration.class, upstream.getSlowCallThreshold()))
+              .waitDurationInOpenState(environment.getProperty(prefix + "open-duration",
+                  Duration.class, Duration.ofSeconds(30)))
+              .permittedNumberOfCallsInHalfOpenState(3)
+              .recordExceptions(RestClientException.class)
+              .ignoreExceptions(HttpClientErrorException.class)
+              .build());
+      circuitBreaker.getEventPublisher().onStateTransition(event ->
+          log.warn("⚡ 외부 API 차단기 상태 변경: {} {}", upstream.getKey(),
+              event.getStateTransition()));
+      circuitBreakers.put(upstream, circuitBreaker);
+    }
+
+    TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry)
+        .bindTo(meterRegistry);
+  }
+
+  /**
+   * 외부 API 호출 (막히면 EXTERNAL_API_UNAVAILABLE, 호출 실패는 원래 예외 그대로 전달)
+   */
+  public <T> T call(Upstream upstream, Supplier<T> call) {
+    return call(upstream, call, null);
+  }
+
+  /**
+   * 외부 API 호출, 막히거나 실패하면 fallback 값 반환
+   */
+  public <T> T call(Upstream upstream, Supplier<T> call, Supplier<T> fallback) {
+    Supplier<T> guarded = Bulkhead.decorateSupplier(bulkheads.get(upstream),
+        CircuitBreaker.decorateSupplier(circuitBreakers.get(upstream), call));
+    try {
+      return guarded.get();
+    } catch (CallNotPermittedException | BulkheadFullException e) {
+      log.debug("외부 API 호출 차단: {} ({})", upstream.getKey(), e.getMessage());
+      if (fallback != null) {
+        return fallback.get();
+      }
+      throw new ApiException(ErrorCode.EXTERNAL_API_UNAVAILABLE);
+    } catch (RestClientException e) {
+      if (fallback != null && !(e instanceof HttpClientErrorException)) {
+        log.warn("외부 API 호출 실패, 대체 응답 사용: {} ({})", upstream.getKey(), e.getMessage());
+        return fallback.get();
+      }
+      throw e;
+    }
+  }
+
+  public CircuitBreaker.State getState(Upstream upstream) {
+    return circuitBreakers.get(upstream).getState();
+  }
+}
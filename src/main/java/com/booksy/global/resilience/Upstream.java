@@ -0,0 +1,21 @@
+package com.booksy.global.resilience;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 연동 대상별 격리 기본값 (external.resilience.{key}.* 로 재정의 가능)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Upstream {
+  ALADIN("aladin", 20, Duration.ofSeconds(3)),
+  LIBRARY("library", 20, Duration.ofSeconds(5)),
+  OPENAI("openai", 5, Duration.ofSeconds(20)),
+  DICTIONARY("dictionary", 10, Duration.ofSeconds(2));
+
+  private final String key;
+  private final int maxConcurrentCalls;     // 동시 호출 상한 (bulkhead)
+  private final Duration slowCallThreshold; // 이 시간을 넘긴 호출은 느린 호출로 집계
+}
@@ -7,23 +7,19 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
  * JWT 토큰 인증 필터 요청 헤더에서 JWT 토큰을 추출하고 검증하여 인증 처리를 수행합니다.
  */
-@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
-  private final CustomUserDetailsService userDetailsService; // UserDetailsService 대신 CustomUserDetailsService 사용
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -31,21 +27,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     String token = extractToken(request);
 
-    if (token != null && jwtTokenProvider.validateToken(token)) {
-      try {
-        Integer userId = jwtTokenProvider.getUserId(token);
-        UserDetails userDetails = ((CustomUserDetailsService) userDetailsService).loadUserById(
-            userId);
-
-        if (userDetails != null) {
-          Authentication authentication = new UsernamePasswordAuthenticationToken(
-              userDetails, null, userDetails.getAuthorities());
-          SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
-      } catch (Exception ex) {
-        //토큰이 유효하지 않으면 비인증 상태로
-        log.debug("JWT 인증 실패: {}", ex.getMessage());
-      }
+    Integer userId = (token != null) ? jwtTokenProvider.authenticate(token) : null;
+
+    if (userId != null) {
+      // 토큰의 userId만으로 인증하고 DB는 조회하지 않는다. 삭제된 사용자의 토큰도 여기서는 통과하며,
+      // 사용자 엔티티를 조회하는 서비스(getCurrentUser 등)에서 조회 실패로 거부된다
+      UserPrincipal principal = new UserPrincipal(userId);
+      Authentication authentication = new UsernamePasswordAuthenticationToken(
+          principal, null, principal.getAuthorities());
+      SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     filterChain.doFilter(request, response);
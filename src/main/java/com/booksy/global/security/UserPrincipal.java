@@ -0,0 +1,43 @@
+package com.booksy.global.security;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * JWT 인증 사용자 정보 (토큰의 userId만으로 구성, DB 조회 없음)
+ * <p>
+ * username은 userId 문자열이므로 기존처럼 {@code authentication.getName()}으로 userId를 얻을 수 있다.
+ */
+public class UserPrincipal implements UserDetails {
+
+  private static final List<GrantedAuthority> AUTHORITIES =
+      List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+  private final Integer userId;
+
+  public UserPrincipal(Integer userId) {
+    this.userId = userId;
+  }
+
+  public Integer getUserId() {
+    return userId;
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return AUTHORITIES;
+  }
+
+  @Override
+  public String getPassword() {
+    return null; // 토큰 인증이므로 비밀번호를 들고 있지 않음
+  }
+
+  @Override
+  public String getUsername() {
+    return userId.toString();
+  }
+}
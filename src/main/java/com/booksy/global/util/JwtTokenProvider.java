@@ -1,11 +1,21 @@
 package com.booksy.global.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -22,10 +32,38 @@ public class JwtTokenProvider {
   private long tokenValidityInSeconds;
 
   private Key key;
+  private JwtParser parser; // thread-safe, 재사용
+
+  // 검증된 토큰 캐시 (토큰 해시 → userId, 토큰 만료 시각에 함께 만료)
+  private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+      .maximumSize(10_000)
+      .expireAfter(new Expiry<String, VerifiedToken>() {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+          long remainingMillis = value.expiresAt() - System.currentTimeMillis();
+          return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+          return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+            long currentDuration) {
+          return currentDuration;
+        }
+      })
+      .build();
 
   @PostConstruct
   public void init() {
     this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+    this.parser = Jwts.parserBuilder()
+        .setSigningKey(key)  // 서명 검증에 사용할 키 설정
+        .build();
   }
 
   public String generateToken(String email) {
@@ -59,40 +97,54 @@ public class JwtTokenProvider {
   }
 
   /**
-   * 토큰에서 사용자 ID 추출
+   * 토큰 검증 + 사용자 ID 추출을 한 번에 수행
+   * <p>
+   * 한 번 검증한 토큰은 만료 시각까지 캐싱하여, 같은 토큰으로 들어오는 요청은 서명 검증과 파싱을 건너뛴다.
+   *
+   * @param token 검증할 JWT 토큰
+   * @return 유효한 토큰이면 사용자 ID, 그렇지 않으면 null
    */
-  public Integer getUserId(String token) {
-    String subject = Jwts.parserBuilder()
-        .setSigningKey(key)
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .getSubject();
-
-    return Integer.parseInt(subject);
+  public Integer authenticate(String token) {
+    String cacheKey = hash(token);
+    VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+    if (cached != null) {
+      return cached.userId();
+    }
+
+    try {
+      Claims claims = parser.parseClaimsJws(token).getBody();
+      VerifiedToken verified = new VerifiedToken(Integer.parseInt(claims.getSubject()),
+          claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE);
+      verifiedTokens.put(cacheKey, verified);
+      return verified.userId();
+    } catch (Exception e) {
+      // 서명/만료/형식 오류 등은 모두 유효하지 않은 토큰으로 간주
+      return null;
+    }
   }
 
   /**
-   * 토큰 유효성 검증
-   *
-   * @param token 검증할 JWT 토큰
-   * @return 토큰이 유효하면 true, 그렇지 않으면 false
+   * 캐시 키로 사용할 토큰 해시 (원본 토큰을 메모리에 보관하지 않기 위함)
    */
-  public boolean validateToken(String token) {
+  private static String hash(String token) {
     try {
-      // 토큰 파싱 시도
-      Jwts.parserBuilder()
-          .setSigningKey(key)  // 서명 검증에 사용할 키 설정
-          .build()
-          .parseClaimsJws(token);  // 토큰 파싱
-
-      // 파싱 성공 시 유효한 토큰으로 간주
-      return true;
-    } catch (Exception e) {
-      // 파싱 중 예외 발생 시 유효하지 않은 토큰으로 간주
-      return false;
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
     }
   }
 
+  /**
+   * 검증이 끝난 토큰 정보
+   *
+   * @param userId    사용자 ID
+   * @param expiresAt 만료 시각 (epoch millis)
+   */
+  private record VerifiedToken(Integer userId, long expiresAt) {
+
+  }
+
 }
 
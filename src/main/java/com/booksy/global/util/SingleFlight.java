@@ -0,0 +1,62 @@
+package com.booksy.global.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출을 하나로 합치는 유틸 (single-flight)
+ * <p>
+ * 키별로 처음 들어온 호출만 실제로 작업을 실행하고, 그 작업이 끝나기 전에 들어온 같은 키의 호출은 같은 future의 결과(또는 예외)를 함께 받는다.
+ * 결과는 작업이 끝나는 즉시 버리므로 캐시가 아니며, 작업은 첫 호출 스레드에서 실행된다. 결과 객체를 여러 호출이 공유하므로 변경 가능한 객체라면
+ * 호출 측에서 사본을 만들어 써야 한다.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * 같은 키로 진행 중인 작업이 있으면 그 결과를 기다리고, 없으면 작업 실행
+   */
+  public V execute(K key, Supplier<V> task) {
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+    if (running != null) {
+      return await(running);
+    }
+
+    try {
+      call.complete(task.get());
+    } catch (Throwable e) {
+      call.completeExceptionally(e);
+    } finally {
+      inFlight.remove(key, call);
+    }
+    return await(call);
+  }
+
+  /**
+   * 현재 진행 중인 작업 수
+   */
+  public int size() {
+    return inFlight.size();
+  }
+
+  // 작업에서 발생한 예외는 감싸지 않고 그대로 던진다 (ApiException 등이 호출 측까지 전달되도록)
+  private V await(CompletableFuture<V> call) {
+    try {
+      return call.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.booksy.domain.book.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.booksy.domain.book.external.dto.BookAvailability;
+import com.booksy.global.resilience.ExternalApiGuard;
+import com.booksy.global.resilience.Upstream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 소장 조회 디버그 로그 샘플링 비율 설정값 처리 (0 이하면 로그를 남기지 않고 조회는 정상 동작)
+ */
+class LibraryExternalClientTest {
+
+  private final Logger logger = (Logger) LoggerFactory.getLogger(LibraryExternalClient.class);
+  private Level previousLevel;
+
+  private ExternalApiGuard externalApiGuard;
+  private LibraryExternalClient libraryExternalClient;
+
+  @BeforeEach
+  void setUp() {
+    previousLevel = logger.getLevel();
+    logger.setLevel(Level.DEBUG);
+    externalApiGuard = mock(ExternalApiGuard.class);
+    when(externalApiGuard.call(eq(Upstream.LIBRARY), any()))
+        .thenReturn(new BookAvailability(true, false));
+    libraryExternalClient = new LibraryExternalClient(mock(RestTemplate.class), externalApiGuard,
+        new LibraryXmlParser());
+    ReflectionTestUtils.setField(libraryExternalClient, "apiKey", "test-key");
+  }
+
+  @AfterEach
+  void tearDown() {
+    logger.setLevel(previousLevel);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1, 1, 100})
+  void 샘플링_비율과_상관없이_조회_결과를_돌려준다(int sampleRate) {
+    ReflectionTestUtils.setField(libraryExternalClient, "debugLogSampleRate", sampleRate);
+
+    BookAvailability availability = libraryExternalClient.getBookAvailability("111001",
+        "9788900000001");
+
+    assertThat(availability.isHasBook()).isTrue();
+    assertThat(availability.isLoanAvailable()).isFalse();
+  }
+}
@@ -0,0 +1,94 @@
+package com.booksy.domain.book.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 격자 인덱스의 반경 조회 결과가 전체 도서관을 하나씩 거리 비교한 결과와 같은지 확인
+ */
+class LibraryGridIndexTest {
+
+  private static final double CELL_DEGREES = 0.1;
+
+  @Test
+  void 국내_도서관_무작위_조회가_전수_비교와_같다() {
+    Random random = new Random(42);
+    List<LibraryInfo> libraries = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      // 절반은 서울 주변, 나머지는 전국에 흩어 놓는다
+      boolean seoul = i % 2 == 0;
+      double lat = seoul ? 37.5665 + random.nextGaussian() * 0.1 : 33 + random.nextDouble() * 5.5;
+      double lng = seoul ? 126.978 + random.nextGaussian() * 0.1 : 125 + random.nextDouble() * 5;
+      libraries.add(new LibraryInfo("L" + i, "도서관 " + i, lat, lng));
+    }
+    LibraryGridIndex index = LibraryGridIndex.build(libraries, CELL_DEGREES);
+
+    for (int q = 0; q < 2000; q++) {
+      double lat = 33 + random.nextDouble() * 5.5;
+      double lng = 125 + random.nextDouble() * 5;
+      double radiusKm = random.nextDouble() * (random.nextInt(4) == 0 ? 300 : 20);
+      assertSameAsBruteForce(index, libraries, lat, lng, radiusKm);
+    }
+  }
+
+  @Test
+  void 고위도에서도_반경_가장자리의_도서관을_놓치지_않는다() {
+    // 반경이 커도 격자를 훑도록(전체 순차 비교로 넘어가지 않도록) 칸을 1도로 키운다
+    Random random = new Random(7);
+    List<LibraryInfo> libraries = worldwide(random);
+    LibraryGridIndex index = LibraryGridIndex.build(libraries, 1.0);
+
+    for (int q = 0; q < 2000; q++) {
+      assertSameAsBruteForce(index, libraries, -80 + random.nextDouble() * 160,
+          -40 + random.nextDouble() * 80, random.nextDouble() * 1500);
+    }
+  }
+
+  @Test
+  void 중심보다_극에_가까운_위도의_경도_끝_도서관도_찾는다() {
+    // 북위 60도에서 반경 1000km 원의 경도 끝은 북위 약 61.3도, 중심에서 경도 약 18.2도 (중심 위도 기준으로 넓히면 18.0도까지만 훑는다)
+    List<LibraryInfo> libraries = worldwide(new Random(7));
+    libraries.add(new LibraryInfo("EDGE", "경계 도서관", 61.3, 18.05));
+    LibraryGridIndex index = LibraryGridIndex.build(libraries, 1.0);
+
+    assertThat(LibraryGridIndex.distanceKm(60, -0.05, 61.3, 18.05)).isLessThanOrEqualTo(1000);
+    assertThat(index.findWithin(60, -0.05, 1000)).extracting(LibraryInfo::getLibCode)
+        .contains("EDGE");
+  }
+
+  @Test
+  void 빈_인덱스와_음수_반경은_빈_결과() {
+    assertThat(LibraryGridIndex.build(List.of(), CELL_DEGREES).findWithin(37.5, 127, 10))
+        .isEmpty();
+    assertThat(LibraryGridIndex.build(List.of(new LibraryInfo("L", "도서관", 37.5, 127)),
+        CELL_DEGREES).findWithin(37.5, 127, -1)).isEmpty();
+  }
+
+  private List<LibraryInfo> worldwide(Random random) {
+    List<LibraryInfo> libraries = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      libraries.add(new LibraryInfo("L" + i, "도서관 " + i, -85 + random.nextDouble() * 170,
+          -100 + random.nextDouble() * 200));
+    }
+    return libraries;
+  }
+
+  private void assertSameAsBruteForce(LibraryGridIndex index, List<LibraryInfo> libraries,
+      double lat, double lng, double radiusKm) {
+    List<String> expected = libraries.stream()
+        .filter(library -> LibraryGridIndex.distanceKm(lat, lng, library.getLatitude(),
+            library.getLongitude()) <= radiusKm)
+        .map(LibraryInfo::getLibCode)
+        .toList();
+
+    assertThat(index.findWithin(lat, lng, radiusKm))
+        .as("(%f, %f) %fkm", lat, lng, radiusKm)
+        .extracting(LibraryInfo::getLibCode)
+        .containsExactlyInAnyOrderElementsOf(expected);
+  }
+}
@@ -0,0 +1,114 @@
+package com.booksy.domain.book.external;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booksy.domain.book.external.dto.BookAvailability;
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import com.booksy.domain.book.external.dto.LibraryPage;
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * data4library XML 응답 파싱 (CDATA, DTD/외부 엔티티 거부, 잘못된 좌표, 페이지 항목 수)
+ */
+class LibraryXmlParserTest {
+
+  private final LibraryXmlParser parser = new LibraryXmlParser();
+
+  @Test
+  void CDATA와_일반_텍스트가_섞인_값도_하나로_읽는다() {
+    LibraryPage page = parser.parseLibraries(xml("""
+        <response><libs>
+          <lib>
+            <libCode> 111001 </libCode>
+            <libName><![CDATA[정독 & <어린이>]]> 도서관</libName>
+            <latitude><![CDATA[37.5816]]></latitude>
+            <longitude>126.9837</longitude>
+          </lib>
+        </libs></response>
+        """));
+
+    assertThat(page.libraries()).singleElement().satisfies(library -> {
+      assertThat(library.getLibCode()).isEqualTo("111001");
+      assertThat(library.getLibraryName()).isEqualTo("정독 & <어린이> 도서관");
+      assertThat(library.getLatitude()).isEqualTo(37.5816);
+      assertThat(library.getLongitude()).isEqualTo(126.9837);
+    });
+  }
+
+  @Test
+  void 외부_엔티티를_선언한_DTD는_거부한다(@TempDir Path dir) throws Exception {
+    Path secret = Files.writeString(dir.resolve("secret.txt"), "SECRET");
+    InputStream body = xml("""
+        <?xml version="1.0"?>
+        <!DOCTYPE response [<!ENTITY xxe SYSTEM "%s">]>
+        <response><libs>
+          <lib><libCode>1</libCode><libName>&xxe;</libName>
+            <latitude>37.5</latitude><longitude>127.0</longitude></lib>
+        </libs></response>
+        """.formatted(secret.toUri()));
+
+    assertThatThrownBy(() -> parser.parseLibraries(body))
+        .isInstanceOfSatisfying(ApiException.class, e ->
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LIBRARY_API_UNAVAILABLE));
+  }
+
+  @Test
+  void 좌표가_잘못된_도서관은_제외하되_항목_수에는_포함한다() {
+    LibraryPage page = parser.parseLibraries(xml("""
+        <response><libs>
+          <lib><libCode>1</libCode><libName>정상</libName>
+            <latitude>37.5</latitude><longitude>127.0</longitude></lib>
+          <lib><libCode>2</libCode><libName>숫자 아님</libName>
+            <latitude>37.5N</latitude><longitude>127.0</longitude></lib>
+          <lib><libCode>3</libCode><libName>좌표 빈 값</libName>
+            <latitude></latitude><longitude>127.0</longitude></lib>
+          <lib><libCode>4</libCode><libName>경도 없음</libName>
+            <latitude>37.5</latitude></lib>
+        </libs></response>
+        """));
+
+    assertThat(page.libraries()).extracting(LibraryInfo::getLibCode).containsExactly("1");
+    // 제외된 항목도 세어야 꽉 찬 페이지를 마지막 페이지로 오인하지 않는다
+    assertThat(page.entries()).isEqualTo(4);
+  }
+
+  @Test
+  void 도서관이_없는_페이지는_항목_수_0() {
+    LibraryPage page = parser.parseLibraries(xml("<response><libs/></response>"));
+
+    assertThat(page.libraries()).isEmpty();
+    assertThat(page.entries()).isZero();
+  }
+
+  @Test
+  void 형식이_잘못된_XML은_LIBRARY_API_UNAVAILABLE() {
+    assertThatThrownBy(() -> parser.parseLibraries(xml("<response><libs><lib>")))
+        .isInstanceOf(ApiException.class);
+    assertThatThrownBy(() -> parser.parseLibraries(null)).isInstanceOf(ApiException.class);
+  }
+
+  @Test
+  void 소장_대출_여부를_읽고_result가_없으면_실패한다() {
+    BookAvailability availability = parser.parseAvailability(xml("""
+        <response><result><hasBook>Y</hasBook><loanAvailable>N</loanAvailable></result></response>
+        """));
+
+    assertThat(availability.isHasBook()).isTrue();
+    assertThat(availability.isLoanAvailable()).isFalse();
+    assertThatThrownBy(() -> parser.parseAvailability(xml("<response><error/></response>")))
+        .isInstanceOf(ApiException.class);
+  }
+
+  private InputStream xml(String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,88 @@
+package com.booksy.domain.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.domain.book.entity.Book;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 같은 도서를 여러 트랜잭션이 동시에 저장할 때 한 건만 들어가고 모두 그 행을 읽는지 확인 (실제 MySQL은
+ * {@link BookRepositoryMySqlConcurrencyTest})
+ */
+@DataJpaTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:bookconcurrency;MODE=MySQL;NON_KEYWORDS=USER,VALUE")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookRepositoryConcurrencyTest {
+
+  private static final String ISBN = "9788936434120";
+  private static final int CALLERS = 32;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    bookRepository.deleteAll();
+  }
+
+  @Test
+  void 동시에_저장해도_한_건만_들어가고_모두_같은_도서를_읽는다() throws Exception {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < CALLERS; i++) {
+        Book book = book("title-" + i);
+        results.add(pool.submit(() -> {
+          start.await();
+          return transaction.execute(status -> {
+            bookRepository.insertIfAbsent(book);
+            return bookRepository.findForShareByIsbn(ISBN).orElseThrow().getTitle();
+          });
+        }));
+      }
+      start.countDown();
+
+      List<String> titles = new ArrayList<>();
+      for (Future<String> result : results) {
+        titles.add(result.get(10, TimeUnit.SECONDS));
+      }
+      String stored = bookRepository.findById(ISBN).orElseThrow().getTitle();
+      assertThat(titles).containsOnly(stored);
+    } finally {
+      pool.shutdownNow();
+    }
+    assertThat(bookRepository.count()).isEqualTo(1);
+  }
+
+  private static Book book(String title) {
+    return Book.builder()
+        .isbn(ISBN)
+        .title(title)
+        .author("author")
+        .totalPage(300)
+        .build();
+  }
+
+}
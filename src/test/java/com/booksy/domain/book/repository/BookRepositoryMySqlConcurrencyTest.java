@@ -0,0 +1,20 @@
+package com.booksy.domain.book.repository;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * {@link BookRepositoryConcurrencyTest}를 실제 MySQL에서 실행 (ON CONFLICT DO NOTHING이 ON DUPLICATE KEY UPDATE로, 공유 잠금이
+ * FOR SHARE로 바뀌어 실행되는지 확인, Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+class BookRepositoryMySqlConcurrencyTest extends BookRepositoryConcurrencyTest {
+
+  @Container
+  @ServiceConnection
+  static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+}
@@ -0,0 +1,76 @@
+package com.booksy.domain.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.booksy.domain.book.dto.BookResponseDto;
+import com.booksy.domain.book.entity.Book;
+import com.booksy.domain.book.external.BookExternalClient;
+import com.booksy.domain.book.mapper.BookMapper;
+import com.booksy.domain.book.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 알라딘 API 호출이 트랜잭션 밖에서 실행되는지, Book 테이블에 있는 도서는 API를 부르지 않는지 확인
+ */
+@DataJpaTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:bookMetadata;MODE=MySQL;NON_KEYWORDS=USER,VALUE")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({BookMetadataService.class, BookMapper.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookMetadataServiceTest {
+
+  @Autowired
+  private BookMetadataService bookMetadataService;
+
+  @Autowired
+  private BookRepository bookRepository;
+
+  @MockitoBean
+  private BookExternalClient bookExternalClient;
+
+  @AfterEach
+  void tearDown() {
+    bookRepository.deleteAll();
+  }
+
+  @Test
+  void 알라딘_API는_트랜잭션_없이_호출된다() {
+    AtomicBoolean inTransaction = new AtomicBoolean(true);
+    when(bookExternalClient.getBookByIsbnFromAladin("9788900000001")).thenAnswer(invocation -> {
+      inTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+      return BookResponseDto.builder().isbn("9788900000001").title("알라딘 책").build();
+    });
+
+    BookResponseDto book = bookMetadataService.getMetadata("9788900000001");
+
+    assertThat(book.getTitle()).isEqualTo("알라딘 책");
+    assertThat(inTransaction).isFalse();
+  }
+
+  @Test
+  void 판매가가_저장된_도서는_DB에서_읽는다() {
+    bookRepository.save(Book.builder().isbn("9788900000002").title("저장된 책").totalPage(300)
+        .priceSales(15000).build());
+
+    BookResponseDto book = bookMetadataService.getMetadata("9788900000002");
+
+    assertThat(book.getTitle()).isEqualTo("저장된 책");
+    verify(bookExternalClient, never()).getBookByIsbnFromAladin(anyString());
+  }
+}
@@ -0,0 +1,111 @@
+package com.booksy.domain.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.booksy.domain.book.dto.LibraryAvailabilityResponseDto;
+import com.booksy.domain.book.external.LibraryExternalClient;
+import com.booksy.domain.book.external.dto.BookAvailability;
+import com.booksy.domain.book.external.dto.LibraryInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 근처 도서관 일괄 조회의 제한 시간 처리 (시간 초과 시 실행 중인 조회는 인터럽트, 큐에 남은 조회는 실행하지 않음)
+ */
+class LibraryAvailabilityServiceTest {
+
+  private static final String ISBN = "9788900000001";
+  private static final double LAT = 37.5665;
+  private static final double LNG = 126.978;
+
+  private LibraryExternalClient libraryExternalClient;
+  private ThreadPoolTaskExecutor executor;
+  private SimpleMeterRegistry meterRegistry;
+  private LibraryAvailabilityService libraryAvailabilityService;
+
+  @BeforeEach
+  void setUp() {
+    libraryExternalClient = mock(LibraryExternalClient.class);
+    LibraryDirectoryService libraryDirectoryService = mock(LibraryDirectoryService.class);
+    when(libraryDirectoryService.findNearby(anyDouble(), anyDouble(), anyDouble())).thenReturn(List.of(
+        new LibraryInfo("near", "가까운 도서관", LAT, LNG),
+        new LibraryInfo("far", "먼 도서관", LAT + 0.01, LNG)));
+
+    // 스레드 하나로 두 번째 도서관 조회가 큐에서 기다리게 함
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(10);
+    executor.initialize();
+
+    meterRegistry = new SimpleMeterRegistry();
+    libraryAvailabilityService = new LibraryAvailabilityService(libraryExternalClient,
+        libraryDirectoryService, mock(BookMetadataService.class), executor, meterRegistry,
+        Duration.ofMillis(200), 30, 1000, Duration.ofMinutes(3), Duration.ofHours(6));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void 제한_시간_안에_조회한_결과는_캐시되어_다시_호출하지_않는다() {
+    when(libraryExternalClient.getBookAvailability("near", ISBN))
+        .thenReturn(new BookAvailability(true, true));
+    when(libraryExternalClient.getBookAvailability("far", ISBN))
+        .thenReturn(new BookAvailability(false, false));
+
+    libraryAvailabilityService.getAvailabilityNearby(ISBN, LAT, LNG, 3);
+    List<LibraryAvailabilityResponseDto> result =
+        libraryAvailabilityService.getAvailabilityNearby(ISBN, LAT, LNG, 3);
+
+    assertThat(result).extracting(LibraryAvailabilityResponseDto::getLibCode)
+        .containsExactly("near", "far");
+    assertThat(result).allMatch(LibraryAvailabilityResponseDto::isChecked);
+    assertThat(result.get(0).isLoanAvailable()).isTrue();
+    assertThat(result.get(1).isHasBook()).isFalse();
+    verify(libraryExternalClient, times(1)).getBookAvailability("near", ISBN);
+    verify(libraryExternalClient, times(1)).getBookAvailability("far", ISBN);
+  }
+
+  @Test
+  void 시간_초과된_조회는_취소되어_큐에_남은_도서관은_호출하지_않는다() throws Exception {
+    CountDownLatch interrupted = new CountDownLatch(1);
+    when(libraryExternalClient.getBookAvailability("near", ISBN)).thenAnswer(invocation -> {
+      try {
+        Thread.sleep(5_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      throw new IllegalStateException("응답 없음");
+    });
+
+    long start = System.nanoTime();
+    List<LibraryAvailabilityResponseDto> result =
+        libraryAvailabilityService.getAvailabilityNearby(ISBN, LAT, LNG, 3);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    assertThat(result).noneMatch(LibraryAvailabilityResponseDto::isChecked);
+    assertThat(meterRegistry.counter("library.availability.unchecked").count()).isEqualTo(2);
+    assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+
+    // 스레드가 풀려난 뒤에도 큐에 있던 조회는 실행되지 않음
+    executor.getThreadPoolExecutor().shutdown();
+    assertThat(executor.getThreadPoolExecutor().awaitTermination(2, TimeUnit.SECONDS)).isTrue();
+    verify(libraryExternalClient, never()).getBookAvailability("far", ISBN);
+  }
+}
@@ -0,0 +1,68 @@
+package com.booksy.domain.notification.scheculer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 재예약/취소로 큐에 남은 무효 항목이 발송 대상으로 나오지 않는지 확인
+ */
+class ReminderQueueTest {
+
+  private static final LocalTime TIME = LocalTime.of(20, 0);
+
+  private final ReminderQueue queue = new ReminderQueue();
+
+  @Test
+  void 재예약하면_예전_시각의_항목은_꺼내지지_않는다() {
+    queue.schedule(1, TIME, 100);
+    queue.schedule(1, TIME, 300);
+
+    assertThat(queue.pollDue(200)).isEmpty();
+    assertThat(queue.pollDue(300)).extracting(ReminderQueue.Entry::fireAt).containsExactly(300L);
+    assertThat(queue.pollDue(Long.MAX_VALUE)).isEmpty();
+  }
+
+  @Test
+  void 앞당겨_재예약해도_한_번만_꺼내진다() {
+    queue.schedule(1, TIME, 300);
+    queue.schedule(1, TIME, 100);
+
+    assertThat(queue.pollDue(Long.MAX_VALUE)).extracting(ReminderQueue.Entry::fireAt)
+        .containsExactly(100L);
+  }
+
+  @Test
+  void 취소한_사용자는_꺼내지지_않는다() {
+    queue.schedule(1, TIME, 100);
+    queue.schedule(2, TIME, 100);
+    queue.cancel(1);
+
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.pollDue(100)).extracting(ReminderQueue.Entry::userId).containsExactly(2);
+  }
+
+  @Test
+  void 무효_항목이_쌓여_재구성되어도_사용자마다_마지막_예약만_남는다() {
+    for (int round = 0; round < 50; round++) {
+      for (int userId = 0; userId < 100; userId++) {
+        queue.schedule(userId, TIME, 1000 - round);
+      }
+    }
+
+    List<ReminderQueue.Entry> due = queue.pollDue(Long.MAX_VALUE);
+    assertThat(due).hasSize(100).allMatch(entry -> entry.fireAt() == 951);
+    assertThat(queue.size()).isZero();
+  }
+
+  @Test
+  void 전체_교체하면_이전_예약은_모두_무효가_된다() {
+    queue.schedule(1, TIME, 100);
+    queue.replaceAll(List.of(new ReminderQueue.Entry(2, TIME, 200)));
+
+    assertThat(queue.pollDue(Long.MAX_VALUE)).extracting(ReminderQueue.Entry::userId)
+        .containsExactly(2);
+  }
+}
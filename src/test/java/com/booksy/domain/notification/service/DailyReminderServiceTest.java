@@ -0,0 +1,130 @@
+package com.booksy.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.domain.book.entity.Book;
+import com.booksy.domain.notification.entity.DeviceToken;
+import com.booksy.domain.plan.entity.Plan;
+import com.booksy.domain.plan.type.PlanStatus;
+import com.booksy.domain.user.entity.User;
+import com.booksy.domain.user.entity.UserStatus;
+import com.booksy.global.fcm.PushMessage;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 독서 알림 대상을 사용자 키셋 청크로 나눠 읽을 때 누락/중복 없이 모두 읽는지 확인
+ */
+@DataJpaTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:dailyReminder;MODE=MySQL;NON_KEYWORDS=USER,VALUE")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(DailyReminderService.class)
+class DailyReminderServiceTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 5, 1);
+  private static final LocalTime DEFAULT_TIME = LocalTime.of(20, 0);
+
+  @Autowired
+  private DailyReminderService dailyReminderService;
+
+  @Autowired
+  private EntityManager em;
+
+  @MockitoBean
+  private PushDispatcher pushDispatcher;
+
+  @Test
+  void 청크로_나눠_읽어도_선점한_사용자의_모든_기기에_한_번씩_보낸다() {
+    List<Integer> userIds = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      User user = persistUser(i);
+      persistPlan(user, "예전 책 " + i, TODAY.minusDays(10));
+      persistPlan(user, "최근 책 " + i, TODAY.minusDays(1));
+      persistToken(user, "token-" + i + "-a");
+      persistToken(user, "token-" + i + "-b");
+      userIds.add(user.getId());
+    }
+    // 오늘 읽을 플랜이 없는 사용자는 선점되어도 메시지 없음
+    User idle = persistUser(99);
+    persistToken(idle, "token-idle");
+    userIds.add(idle.getId());
+    em.flush();
+
+    String claim = dailyReminderService.claim(userIds, TODAY, ReminderScheduleService.END_OF_DAY,
+        DEFAULT_TIME);
+    em.clear();
+
+    List<PushMessage> sent = new ArrayList<>();
+    int chunks = 0;
+    Integer cursor = 0;
+    DailyReminderService.ReminderChunk chunk;
+    while ((chunk = dailyReminderService.loadReminders(claim, TODAY, cursor, 3)) != null) {
+      assertThat(chunk.messages()).hasSizeLessThanOrEqualTo(3 * 2);
+      sent.addAll(chunk.messages());
+      cursor = chunk.lastUserId();
+      chunks++;
+    }
+
+    assertThat(chunks).isEqualTo(3); // 8명 / 3명씩
+    assertThat(sent).extracting(PushMessage::token).doesNotHaveDuplicates().hasSize(14)
+        .doesNotContain("token-idle");
+    assertThat(sent).allSatisfy(message ->
+        assertThat(message.body()).contains("최근 책").doesNotContain("예전 책"));
+  }
+
+  @Test
+  void 다른_회차가_선점한_사용자는_읽지_않는다() {
+    User user = persistUser(0);
+    persistPlan(user, "책", TODAY);
+    persistToken(user, "token-0");
+    em.flush();
+
+    String first = dailyReminderService.claim(List.of(user.getId()), TODAY,
+        ReminderScheduleService.END_OF_DAY, DEFAULT_TIME);
+    em.clear();
+
+    assertThat(dailyReminderService.loadReminders("other-claim", TODAY, 0, 10)).isNull();
+    assertThat(dailyReminderService.loadReminders(first, TODAY, 0, 10).messages()).hasSize(1);
+  }
+
+  @Test
+  void 지난_날짜_알림은_하루의_마지막_희망_시각까지_선점한다() {
+    User user = persistUser(0);
+    user.updateReminderTime(LocalTime.of(23, 59, 59));
+    em.flush();
+
+    assertThat(dailyReminderService.claim(List.of(user.getId()), TODAY,
+        ReminderScheduleService.END_OF_DAY, DEFAULT_TIME)).isNotNull();
+  }
+
+  private User persistUser(int index) {
+    User user = User.builder().nickname("reader" + index).status(UserStatus.ACTIVE).build();
+    em.persist(user);
+    return user;
+  }
+
+  private void persistPlan(User user, String title, LocalDate startDate) {
+    Book book = Book.builder().isbn("isbn-" + user.getId() + "-" + title.hashCode()).title(title)
+        .totalPage(300).build();
+    em.persist(book);
+    em.persist(Plan.builder().user(user).book(book).status(PlanStatus.READING)
+        .startDate(startDate).endDate(TODAY.plusDays(30)).build());
+  }
+
+  private void persistToken(User user, String token) {
+    DeviceToken deviceToken = new DeviceToken();
+    deviceToken.setUser(user);
+    deviceToken.setToken(token);
+    em.persist(deviceToken);
+  }
+}
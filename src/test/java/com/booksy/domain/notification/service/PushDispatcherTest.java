@@ -0,0 +1,88 @@
+package com.booksy.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.global.config.ExecutorConfig;
+import com.booksy.global.fcm.LocalPushSender;
+import com.booksy.global.fcm.PushMessage;
+import com.booksy.global.fcm.PushResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * push.sender=local 발송기로 배치 분할과 발송 풀 포화 시 호출 스레드 실행(backpressure) 확인
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:pushDispatcher;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+    "push.sender=local",
+    "push.local.latency-ms=100",
+    "push.fanout.threads=2",
+    "push.fanout.queue-capacity=1"})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({PushDispatcher.class, LocalPushSender.class, ExecutorConfig.class,
+    SimpleMeterRegistry.class})
+@DirtiesContext
+class PushDispatcherTest {
+
+  @Autowired
+  private PushDispatcher pushDispatcher;
+
+  @Autowired
+  private LocalPushSender localPushSender;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void 메시지를_500건_배치로_나눠_입력_순서대로_결과를_돌려준다() {
+    long sentBefore = localPushSender.getSentCount();
+    long batchesBefore = meterRegistry.timer("push.batch").count();
+
+    List<PushResult> results = pushDispatcher.dispatch(messages(1250));
+
+    assertThat(results).hasSize(1250).allMatch(PushResult::success);
+    assertThat(results).extracting(PushResult::token)
+        .containsExactlyElementsOf(messages(1250).stream().map(PushMessage::token).toList());
+    assertThat(localPushSender.getSentCount() - sentBefore).isEqualTo(1250);
+    assertThat(meterRegistry.timer("push.batch").count() - batchesBefore).isEqualTo(3);
+  }
+
+  @Test
+  void 발송_풀이_가득_차면_호출_스레드가_배치를_직접_보내며_느려진다() {
+    // 스레드 2개 + 큐 1칸이 차면 나머지 배치는 호출 스레드에서 100ms씩 실행된다
+    int batches = 8;
+    long startedAt = System.nanoTime();
+    CompletableFuture<List<PushResult>> future =
+        pushDispatcher.dispatchAsync(messages(batches * 500));
+    long submitMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+    assertThat(submitMs).isGreaterThanOrEqualTo(100);
+    assertThat(future.join()).hasSize(batches * 500).allMatch(PushResult::success);
+  }
+
+  @Test
+  void 풀에_여유가_있으면_제출만_하고_바로_반환한다() {
+    long startedAt = System.nanoTime();
+    CompletableFuture<List<PushResult>> future = pushDispatcher.dispatchAsync(messages(500));
+    long submitMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+    assertThat(submitMs).isLessThan(100);
+    assertThat(future.join()).hasSize(500);
+  }
+
+  private List<PushMessage> messages(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> new PushMessage("token-" + i, "제목", "본문"))
+        .toList();
+  }
+}
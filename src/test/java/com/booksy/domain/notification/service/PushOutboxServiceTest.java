@@ -0,0 +1,108 @@
+package com.booksy.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.domain.notification.entity.PushOutbox;
+import com.booksy.domain.notification.repository.PushOutboxRepository;
+import com.booksy.domain.notification.type.OutboxStatus;
+import com.booksy.global.fcm.PushResult;
+import com.google.firebase.messaging.MessagingErrorCode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 선점이 만료되어 다른 워커가 다시 가져간 행에 늦게 끝난 워커의 결과가 반영되지 않는지 확인
+ * <p>
+ * 선점 시간을 음수로 두어 선점 직후 바로 만료된 것처럼 만든다. 보관 기간이 지난 FAILED 행 정리도 함께 확인한다.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:pushOutbox;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+    "push.outbox.lease-seconds=-1"})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(PushOutboxService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PushOutboxServiceTest {
+
+  @Autowired
+  private PushOutboxService pushOutboxService;
+
+  @Autowired
+  private PushOutboxRepository pushOutboxRepository;
+
+  @AfterEach
+  void tearDown() {
+    pushOutboxRepository.deleteAll();
+  }
+
+  @Test
+  void 만료된_선점의_성공_결과는_다른_워커가_선점한_행을_지우지_않는다() {
+    pushOutboxService.enqueueToken("token", "제목", "본문");
+    List<PushOutbox> stale = pushOutboxService.claim(10);
+    List<PushOutbox> current = pushOutboxService.claim(10);
+    assertThat(current).hasSize(1);
+    assertThat(current.get(0).getClaimToken()).isNotEqualTo(stale.get(0).getClaimToken());
+
+    pushOutboxService.complete(stale, List.of(PushResult.success("token")));
+    assertThat(pushOutboxRepository.count()).isEqualTo(1);
+
+    pushOutboxService.complete(current, List.of(PushResult.success("token")));
+    assertThat(pushOutboxRepository.count()).isZero();
+  }
+
+  @Test
+  void 만료된_선점의_실패_결과는_다른_워커가_선점한_행을_FAILED로_바꾸지_않는다() {
+    pushOutboxService.enqueueToken("token", "제목", "본문");
+    List<PushOutbox> stale = pushOutboxService.claim(10);
+    List<PushOutbox> current = pushOutboxService.claim(10);
+
+    pushOutboxService.complete(stale,
+        List.of(PushResult.failure("token", MessagingErrorCode.UNREGISTERED)));
+
+    PushOutbox row = pushOutboxRepository.findAll().get(0);
+    assertThat(row.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    assertThat(row.getClaimToken()).isEqualTo(current.get(0).getClaimToken());
+    assertThat(row.getAttempts()).isEqualTo(2);
+  }
+
+  @Test
+  void 유효한_선점의_실패_결과는_반영된다() {
+    pushOutboxService.enqueueToken("token", "제목", "본문");
+    List<PushOutbox> rows = pushOutboxService.claim(10);
+
+    pushOutboxService.complete(rows,
+        List.of(PushResult.failure("token", MessagingErrorCode.UNREGISTERED)));
+
+    assertThat(pushOutboxRepository.findAll()).singleElement()
+        .extracting(PushOutbox::getStatus).isEqualTo(OutboxStatus.FAILED);
+  }
+
+  @Test
+  void 보관_기간이_지난_FAILED_행만_삭제한다() {
+    LocalDateTime now = LocalDateTime.now();
+    pushOutboxRepository.saveAll(List.of(
+        row("old-failed", OutboxStatus.FAILED, now.minusDays(31)),
+        row("recent-failed", OutboxStatus.FAILED, now.minusDays(1)),
+        row("old-pending", OutboxStatus.PENDING, now.minusDays(31))));
+
+    assertThat(pushOutboxService.purgeFailed(Duration.ofDays(30))).isEqualTo(1);
+    assertThat(pushOutboxRepository.findAll()).extracting(PushOutbox::getToken)
+        .containsExactlyInAnyOrder("recent-failed", "old-pending");
+  }
+
+  private PushOutbox row(String token, OutboxStatus status, LocalDateTime nextAttemptAt) {
+    PushOutbox row = PushOutbox.pending(null, token, "제목", "본문");
+    row.setStatus(status);
+    row.setNextAttemptAt(nextAttemptAt);
+    return row;
+  }
+}
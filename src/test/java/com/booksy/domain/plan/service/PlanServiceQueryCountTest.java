@@ -0,0 +1,159 @@
+package com.booksy.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.booksy.domain.book.entity.Book;
+import com.booksy.domain.book.service.BookService;
+import com.booksy.domain.plan.entity.Plan;
+import com.booksy.domain.plan.entity.ReadingSchedule;
+import com.booksy.domain.plan.mapper.PlanMapper;
+import com.booksy.domain.plan.type.PlanStatus;
+import com.booksy.domain.readinglog.entity.ReadingLog;
+import com.booksy.domain.readinglog.service.TimeRecordService;
+import com.booksy.domain.readinglog.type.ContentType;
+import com.booksy.domain.user.entity.User;
+import com.booksy.domain.user.entity.UserStatus;
+import com.booksy.domain.user.service.UserService;
+import com.booksy.global.ai.OpenAiClient;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 플랜 목록/요약/오늘/캘린더 조회가 플랜 수와 관계없이 고정된 SQL 문 수로 끝나는지 Hibernate 통계로 확인
+ * <p>
+ * 로그인 사용자 조회(UserService)는 목으로 대체하므로 세는 문장은 플랜 조회 쿼리뿐이다.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:plan-query-count;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+    "spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PlanService.class, PlanMapper.class, ReadingDateCalculator.class})
+class PlanServiceQueryCountTest {
+
+  private static final int PLANS_PER_STATUS = 5;
+
+  @Autowired
+  private PlanService planService;
+
+  @Autowired
+  private EntityManager em;
+
+  @MockitoBean
+  private UserService userService;
+
+  @MockitoBean
+  private BookService bookService;
+
+  @MockitoBean
+  private OpenAiClient openAiClient;
+
+  @MockitoBean
+  private TimeRecordService timeRecordService;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    User user = User.builder().nickname("reader").status(UserStatus.ACTIVE).build();
+    em.persist(user);
+
+    // 상태마다 서로 다른 도서의 플랜 여러 개 (도서를 지연 로딩하면 플랜 수만큼 쿼리가 늘어난다)
+    LocalDate today = LocalDate.now();
+    int isbn = 0;
+    for (PlanStatus status : PlanStatus.values()) {
+      for (int i = 0; i < PLANS_PER_STATUS; i++) {
+        Book book = Book.builder().isbn(String.valueOf(9788900000000L + isbn++))
+            .title("책 " + isbn).totalPage(300).build();
+        em.persist(book);
+
+        Plan plan = Plan.builder()
+            .user(user)
+            .book(book)
+            .status(status)
+            .startDate(today.minusDays(3))
+            .endDate(today.plusDays(3))
+            .currentPage(100)
+            .dailyPages(30)
+            .dailyMinutes(20)
+            .readingSchedule(ReadingSchedule.of(List.of(today.minusDays(3), today, today.plusDays(3))))
+            .build();
+        em.persist(plan);
+
+        if (status == PlanStatus.COMPLETED) {
+          em.persist(ReadingLog.builder().user(user).plan(plan).contentType(ContentType.SCRAP)
+              .content("스크랩").build());
+        }
+      }
+    }
+    em.flush();
+    em.clear();
+
+    given(userService.getCurrentUser(any())).willReturn(user);
+    statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void allPlansRunOneStatement() {
+    assertSingleStatement(planService::getAllPlans, PLANS_PER_STATUS * PlanStatus.values().length);
+  }
+
+  @Test
+  void plansByStatusRunOneStatement() {
+    for (PlanStatus status : PlanStatus.values()) {
+      assertSingleStatement(() -> planService.getPlansByStatus(status, null, null),
+          PLANS_PER_STATUS);
+    }
+  }
+
+  @Test
+  void readingPlanSummariesRunOneStatement() {
+    assertSingleStatement(planService::getReadingPlanSummaries, PLANS_PER_STATUS);
+  }
+
+  @Test
+  void plansForTodayRunOneStatement() {
+    assertSingleStatement(planService::getPlansForToday, PLANS_PER_STATUS);
+  }
+
+  @Test
+  void plansForCalendarRunOneStatement() {
+    LocalDate today = LocalDate.now();
+    assertSingleStatement(
+        () -> planService.getPlansForCalendar(today.getYear(), today.getMonthValue()),
+        PLANS_PER_STATUS * PlanStatus.values().length);
+  }
+
+  @Test
+  void plansByDateRunOneStatement() {
+    assertSingleStatement(() -> planService.getPlansByDate(LocalDate.now()),
+        PLANS_PER_STATUS * PlanStatus.values().length);
+  }
+
+  private void assertSingleStatement(Supplier<List<?>> view, int expectedSize) {
+    em.clear();
+    statistics.clear();
+
+    List<?> result = view.get();
+
+    assertThat(result).hasSize(expectedSize);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+}
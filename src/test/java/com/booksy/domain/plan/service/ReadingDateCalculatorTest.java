@@ -0,0 +1,130 @@
+package com.booksy.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.booksy.domain.plan.entity.ReadingSchedule;
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 독서 예정일 계산 결과를 하루씩 훑는 단순 구현과 비교하고 경계 입력을 확인
+ */
+class ReadingDateCalculatorTest {
+
+  private static final LocalDate MONDAY = LocalDate.of(2024, 1, 1);
+
+  private final ReadingDateCalculator calculator = new ReadingDateCalculator();
+
+  @Test
+  void 무작위_입력에서_하루씩_훑는_구현과_같다() {
+    for (long seed = 0; seed < 500; seed++) {
+      Random random = new Random(seed);
+      LocalDate start = MONDAY.plusDays(random.nextInt(14));
+      int period = 1 + random.nextInt(random.nextBoolean() ? 10 : 400);
+      List<Integer> weekdays = new ArrayList<>();
+      for (int weekday = 0; weekday < 7; weekday++) {
+        if (random.nextInt(3) == 0) {
+          weekdays.add(weekday);
+        }
+      }
+      if (weekdays.size() == 7) {
+        weekdays.remove(random.nextInt(7));
+      }
+      List<LocalDate> excludes = new ArrayList<>();
+      int excludeCount = random.nextInt(30);
+      for (int i = 0; i < excludeCount; i++) {
+        // 시작일 이전, 중복, 범위 밖 날짜 포함
+        excludes.add(start.plusDays(random.nextInt(period * 3 + 20) - 10));
+      }
+
+      assertThat(calculator.calculate(start, period, excludes, weekdays))
+          .as("seed %d", seed)
+          .containsExactlyElementsOf(reference(start, period, excludes, weekdays));
+    }
+  }
+
+  @Test
+  void 모든_요일을_제외하면_INVALID_PLAN_PERIOD() {
+    assertErrorCode(() -> calculator.calculate(MONDAY, 10, null, List.of(0, 1, 2, 3, 4, 5, 6)),
+        ErrorCode.INVALID_PLAN_PERIOD);
+  }
+
+  @Test
+  void 범위_밖_제외_날짜는_결과에_영향이_없다() {
+    List<LocalDate> excludes = List.of(MONDAY.minusDays(1), MONDAY.minusYears(1),
+        MONDAY.plusDays(30), MONDAY.plusYears(1));
+
+    assertThat(calculator.calculate(MONDAY, 5, excludes, null))
+        .containsExactlyElementsOf(calculator.calculate(MONDAY, 5, null, null));
+  }
+
+  @Test
+  void 제외_요일에_걸린_제외_날짜는_한_번만_빠진다() {
+    // 1/6(토)은 이미 제외 요일, 1/3(수)만 추가로 빠진다
+    List<LocalDate> result = calculator.calculate(MONDAY, 4,
+        List.of(LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 3)),
+        List.of(0, 6));
+
+    assertThat(result).containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2),
+        LocalDate.of(2024, 1, 4), LocalDate.of(2024, 1, 5));
+  }
+
+  @Test
+  void 제외_날짜에_null이_있어도_무시한다() {
+    List<LocalDate> excludes = Arrays.asList(null, MONDAY.plusDays(1), null);
+
+    assertThat(calculator.calculate(MONDAY, 2, excludes, null))
+        .containsExactly(MONDAY, MONDAY.plusDays(2));
+  }
+
+  @Test
+  void 일정_최대_길이를_넘으면_INVALID_PLAN_PERIOD() {
+    // 주 1일만 읽으면 600일은 4096일 안에 들어가지 않는다
+    assertErrorCode(() -> calculator.calculate(MONDAY, 600, null, List.of(0, 2, 3, 4, 5, 6)),
+        ErrorCode.INVALID_PLAN_PERIOD);
+    assertThat(calculator.calculate(MONDAY, ReadingSchedule.MAX_DAYS, null, null))
+        .hasSize(ReadingSchedule.MAX_DAYS);
+  }
+
+  @Test
+  void 기간이_0_이하이면_INVALID_PLAN_PERIOD() {
+    assertErrorCode(() -> calculator.calculate(MONDAY, 0, null, null),
+        ErrorCode.INVALID_PLAN_PERIOD);
+  }
+
+  @Test
+  void 시작일이_종료일보다_늦으면_빈_리스트() {
+    assertThat(calculator.calculateBetween(MONDAY.plusDays(1), MONDAY)).isEmpty();
+    assertThat(calculator.calculateBetween(MONDAY, MONDAY)).containsExactly(MONDAY);
+    assertThat(calculator.calculateBetween(MONDAY, MONDAY.plusDays(2)))
+        .containsExactly(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2));
+  }
+
+  private void assertErrorCode(Runnable call, ErrorCode errorCode) {
+    assertThatThrownBy(call::run)
+        .isInstanceOfSatisfying(ApiException.class, e ->
+            assertThat(e.getErrorCode()).isEqualTo(errorCode));
+  }
+
+  // 기존 PlanService.calculateReadingDates와 같은 하루 단위 구현
+  private List<LocalDate> reference(LocalDate start, int period, List<LocalDate> excludes,
+      List<Integer> weekdays) {
+    List<LocalDate> result = new ArrayList<>();
+    LocalDate current = start;
+    while (result.size() < period) {
+      int weekday = current.getDayOfWeek().getValue() % 7;
+      if (!excludes.contains(current) && !weekdays.contains(weekday)) {
+        result.add(current);
+      }
+      current = current.plusDays(1);
+    }
+    return result;
+  }
+}
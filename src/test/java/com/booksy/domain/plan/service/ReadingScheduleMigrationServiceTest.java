@@ -0,0 +1,104 @@
+package com.booksy.domain.plan.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.domain.book.entity.Book;
+import com.booksy.domain.plan.entity.Plan;
+import com.booksy.domain.plan.mapper.PlanMapper;
+import com.booksy.domain.plan.type.PlanStatus;
+import com.booksy.domain.readinglog.repository.ReadingLogRepository;
+import com.booksy.domain.user.entity.User;
+import com.booksy.domain.user.entity.UserStatus;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 독서 일정 비트맵 이관이 updated_at(완독 시각)을 건드리지 않는지 확인
+ */
+@DataJpaTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:scheduleMigration;MODE=MySQL;NON_KEYWORDS=USER,VALUE")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ReadingScheduleMigrationService.class, PlanMapper.class})
+class ReadingScheduleMigrationServiceTest {
+
+  private static final LocalDateTime COMPLETED_AT = LocalDateTime.of(2024, 3, 10, 21, 30);
+
+  @Autowired
+  private ReadingScheduleMigrationService migrationService;
+
+  @Autowired
+  private EntityManager em;
+
+  @MockitoBean
+  private ReadingLogRepository readingLogRepository;
+
+  @Test
+  void 이관해도_updated_at은_바뀌지_않는다() {
+    Plan completed = persistPlan(PlanStatus.COMPLETED, "[\"2024-03-01\",\"2024-03-03\"]");
+    Plan reading = persistPlan(PlanStatus.READING, "[\"2024-03-05\"]");
+    Plan empty = persistPlan(PlanStatus.READING, "[]");
+    backdateUpdatedAt();
+
+    migrationService.migrateLegacyReadingDates();
+    em.clear();
+
+    for (Plan plan : new Plan[]{completed, reading, empty}) {
+      Plan migrated = em.find(Plan.class, plan.getId());
+      assertThat(migrated.getUpdatedAt()).isEqualTo(COMPLETED_AT);
+      assertThat(migrated.getReadingDates()).isNull();
+    }
+    Plan migrated = em.find(Plan.class, completed.getId());
+    assertThat(migrated.getReadingSchedule().contains(LocalDate.of(2024, 3, 1))).isTrue();
+    assertThat(migrated.getReadingSchedule().contains(LocalDate.of(2024, 3, 2))).isFalse();
+    assertThat(migrated.getReadingSchedule().contains(LocalDate.of(2024, 3, 3))).isTrue();
+    assertThat(em.find(Plan.class, empty.getId()).getReadingSchedule()).isNull();
+  }
+
+  @Test
+  void 이관된_플랜은_다시_조회되지_않는다() {
+    persistPlan(PlanStatus.READING, "[\"2024-03-05\"]");
+    backdateUpdatedAt();
+
+    migrationService.migrateLegacyReadingDates();
+    em.clear();
+    migrationService.migrateLegacyReadingDates();
+    em.clear();
+
+    Long remaining = em.createQuery(
+            "SELECT COUNT(p) FROM Plan p WHERE p.readingDates IS NOT NULL", Long.class)
+        .getSingleResult();
+    assertThat(remaining).isZero();
+  }
+
+  // 완독 후 한참 지난 플랜처럼 updated_at을 과거로 돌려 둔다
+  private void backdateUpdatedAt() {
+    em.flush();
+    em.createQuery("UPDATE Plan p SET p.updatedAt = :at")
+        .setParameter("at", COMPLETED_AT)
+        .executeUpdate();
+    em.clear();
+  }
+
+  private Plan persistPlan(PlanStatus status, String readingDates) {
+    User user = User.builder().nickname("reader").status(UserStatus.ACTIVE).build();
+    em.persist(user);
+    Book book = Book.builder().isbn("97889" + System.nanoTime() % 100000000L).title("책")
+        .totalPage(300).build();
+    em.persist(book);
+    Plan plan = Plan.builder().user(user).book(book).status(status)
+        .readingDates(readingDates).build();
+    em.persist(plan);
+    return plan;
+  }
+}
@@ -0,0 +1,96 @@
+package com.booksy.domain.ranking.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 무작위 삽입/삭제/점수 변경 후 순위 조회와 상위 목록이 정렬된 리스트 기준 결과와 같은지 비교
+ */
+class RankedSkipListTest {
+
+  // 점수 내림차순, 동점 시 userId 오름차순
+  private static final Comparator<Leaderboard.Entry> ORDER =
+      Comparator.comparingLong(Leaderboard.Entry::score).reversed()
+          .thenComparing(Leaderboard.Entry::userId);
+
+  @Test
+  void 무작위_연산_후에도_정렬_리스트와_같은_순위를_돌려준다() {
+    for (long seed = 0; seed < 20; seed++) {
+      Random random = new Random(seed);
+      RankedSkipList list = new RankedSkipList();
+      Map<Integer, Long> scores = new HashMap<>();
+
+      for (int step = 0; step < 2000; step++) {
+        int userId = random.nextInt(300);
+        long score = random.nextInt(50); // 좁은 범위로 동점을 자주 만든다
+        Long current = scores.get(userId);
+        int op = random.nextInt(4);
+
+        if (current == null && op != 3) {
+          list.insert(userId, score);
+          scores.put(userId, score);
+        } else if (current != null && op == 0) {
+          assertThat(list.remove(userId, current)).isTrue();
+          scores.remove(userId);
+        } else if (current != null && op <= 2) {
+          assertThat(list.remove(userId, current)).isTrue();
+          list.insert(userId, current + score);
+          scores.put(userId, current + score);
+        } else {
+          // 없는 키, 또는 있는 사용자의 다른 점수 삭제는 아무것도 바꾸지 않는다
+          long absent = current == null ? score : current + 1;
+          assertThat(list.remove(userId, absent)).isFalse();
+        }
+
+        if (step % 50 == 0) {
+          assertMatches(list, scores);
+        }
+      }
+      assertMatches(list, scores);
+    }
+  }
+
+  @Test
+  void 동점이면_userId가_작은_사용자가_앞_순위다() {
+    RankedSkipList list = new RankedSkipList();
+    list.insert(3, 10);
+    list.insert(1, 10);
+    list.insert(2, 20);
+
+    assertThat(list.rank(2, 20)).isEqualTo(1);
+    assertThat(list.rank(1, 10)).isEqualTo(2);
+    assertThat(list.rank(3, 10)).isEqualTo(3);
+    assertThat(list.rank(4, 10)).isEqualTo(-1);
+  }
+
+  @Test
+  void 빈_리스트에서_삭제와_순위_조회() {
+    RankedSkipList list = new RankedSkipList();
+
+    assertThat(list.remove(1, 10)).isFalse();
+    assertThat(list.rank(1, 10)).isEqualTo(-1);
+    assertThat(list.top(5)).isEmpty();
+    assertThat(list.size()).isZero();
+  }
+
+  private static void assertMatches(RankedSkipList list, Map<Integer, Long> scores) {
+    List<Leaderboard.Entry> expected = new ArrayList<>();
+    scores.forEach((userId, score) -> expected.add(new Leaderboard.Entry(userId, score)));
+    expected.sort(ORDER);
+
+    assertThat(list.size()).isEqualTo(expected.size());
+    assertThat(list.top(Integer.MAX_VALUE)).isEqualTo(expected);
+    assertThat(list.top(10)).isEqualTo(expected.subList(0, Math.min(10, expected.size())));
+    for (int i = 0; i < expected.size(); i++) {
+      Leaderboard.Entry entry = expected.get(i);
+      assertThat(list.rank(entry.userId(), entry.score())).isEqualTo(i + 1);
+    }
+  }
+}
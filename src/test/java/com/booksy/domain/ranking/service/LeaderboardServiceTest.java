@@ -0,0 +1,136 @@
+package com.booksy.domain.ranking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.booksy.domain.ranking.dto.RankingScoreDto;
+import com.booksy.domain.ranking.repository.RankingRepository;
+import com.booksy.domain.ranking.type.RankingScope;
+import com.booksy.domain.ranking.type.RankingSort;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 재구성 중 들어온 증분이 빠지거나 두 번 반영되지 않는지 확인 (집계 쿼리를 붙잡아 증분과 재구성의 순서를 강제)
+ */
+class LeaderboardServiceTest {
+
+  private static final Integer USER_ID = 1;
+
+  private RankingRepository rankingRepository;
+  private LeaderboardService leaderboardService;
+
+  // DB에 커밋된 점수 (집계 쿼리가 실행되는 시점의 값을 돌려줌)
+  private final AtomicLong committedMinutes = new AtomicLong();
+  private final AtomicLong committedCompleted = new AtomicLong();
+  private final AtomicLong committedBadges = new AtomicLong();
+
+  @BeforeEach
+  void setUp() {
+    rankingRepository = mock(RankingRepository.class);
+    when(rankingRepository.sumReadingTimeByUser(any()))
+        .thenAnswer(invocation -> scores(committedMinutes));
+    when(rankingRepository.countCompletedPlansByUser(any()))
+        .thenAnswer(invocation -> scores(committedCompleted));
+    when(rankingRepository.countBadgesByUser(any()))
+        .thenAnswer(invocation -> scores(committedBadges));
+    leaderboardService = new LeaderboardService(rankingRepository);
+  }
+
+  @Test
+  void 집계_쿼리_실행_중에_커밋된_증분은_새_리더보드에_다시_적용된다() throws Exception {
+    leaderboardService.rebuildAll();
+    CountDownLatch querying = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    // 독서 시간 집계가 DB를 읽은 뒤(증분 커밋 전) 멈춤
+    when(rankingRepository.sumReadingTimeByUser(any())).thenAnswer(invocation -> {
+      List<RankingScoreDto> snapshot = scores(committedMinutes);
+      querying.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return snapshot;
+    });
+
+    CompletableFuture<Void> rebuild = CompletableFuture.runAsync(leaderboardService::rebuildAll);
+    assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+    commitReadingTime(30);
+    release.countDown();
+    rebuild.get(5, TimeUnit.SECONDS);
+
+    assertThat(score(RankingSort.TIME, RankingScope.MONTH)).isEqualTo(30L);
+    assertThat(score(RankingSort.TIME, RankingScope.YEAR)).isEqualTo(30L);
+  }
+
+  @Test
+  void 다른_리더보드_집계_중에_커밋된_증분은_나중에_집계되는_리더보드에_두_번_반영되지_않는다() throws Exception {
+    leaderboardService.rebuildAll();
+    CountDownLatch querying = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    // 독서 시간(첫 번째) 집계 중에 완독을 커밋하면, 완독 수 집계는 이미 그 완독을 포함해서 읽는다
+    when(rankingRepository.sumReadingTimeByUser(any())).thenAnswer(invocation -> {
+      querying.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return scores(committedMinutes);
+    });
+
+    CompletableFuture<Void> rebuild = CompletableFuture.runAsync(leaderboardService::rebuildAll);
+    assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+    commitCompletedPlan();
+    release.countDown();
+    rebuild.get(5, TimeUnit.SECONDS);
+
+    assertThat(score(RankingSort.COUNT, RankingScope.MONTH)).isEqualTo(1L);
+    assertThat(score(RankingSort.COUNT, RankingScope.YEAR)).isEqualTo(1L);
+  }
+
+  @Test
+  void 리더보드_집계_쿼리가_느려도_이미_있는_다른_리더보드_조회는_기다리지_않는다() throws Exception {
+    leaderboardService.getBoard(RankingSort.BADGE, RankingScope.MONTH);
+    CountDownLatch querying = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(rankingRepository.sumReadingTimeByUser(any())).thenAnswer(invocation -> {
+      querying.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return scores(committedMinutes);
+    });
+
+    CompletableFuture<?> loading = CompletableFuture.runAsync(() ->
+        leaderboardService.getBoard(RankingSort.TIME, RankingScope.MONTH));
+    assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+    try {
+      CompletableFuture.supplyAsync(() ->
+              leaderboardService.getBoard(RankingSort.BADGE, RankingScope.MONTH))
+          .get(1, TimeUnit.SECONDS);
+    } finally {
+      release.countDown();
+    }
+    loading.get(5, TimeUnit.SECONDS);
+  }
+
+  // 트랜잭션 밖에서 호출하면 커밋 직후처럼 바로 반영된다
+  private void commitReadingTime(int minutes) {
+    committedMinutes.addAndGet(minutes);
+    leaderboardService.recordReadingTime(USER_ID, LocalDateTime.now(), minutes);
+  }
+
+  private void commitCompletedPlan() {
+    committedCompleted.incrementAndGet();
+    leaderboardService.recordCompletedPlan(USER_ID);
+  }
+
+  private Long score(RankingSort sort, RankingScope scope) {
+    return leaderboardService.getBoard(sort, scope).scoreOf(USER_ID);
+  }
+
+  private static List<RankingScoreDto> scores(AtomicLong committed) {
+    long score = committed.get();
+    return score > 0 ? List.of(new RankingScoreDto(USER_ID, score)) : List.of();
+  }
+}
@@ -0,0 +1,170 @@
+package com.booksy.domain.readinglog.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.domain.book.entity.Book;
+import com.booksy.domain.plan.entity.Plan;
+import com.booksy.domain.plan.type.PlanStatus;
+import com.booksy.domain.readinglog.entity.TimeRecord;
+import com.booksy.domain.user.entity.User;
+import com.booksy.domain.user.entity.UserStatus;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 일별 독서 집계 재계산이 어긋난 집계를 time_record 기준으로 되돌리는지 확인
+ */
+@DataJpaTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:summary;MODE=MySQL;NON_KEYWORDS=USER,VALUE")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(DailyReadingSummaryService.class)
+class DailyReadingSummaryServiceTest {
+
+  // 집계 행을 (사용자, 플랜, 날짜, 분, 횟수)로 비교
+  private static final String SUMMARY_ROWS = """
+          SELECT s.user.id, s.plan.id, s.readingDate, s.minutes, s.sessions
+          FROM DailyReadingSummary s
+          ORDER BY s.user.id, s.plan.id, s.readingDate
+      """;
+
+  // 같은 모양으로 time_record에서 직접 집계한 기대값
+  private static final String EXPECTED_ROWS = """
+          SELECT tr.user.id, tr.plan.id, CAST(tr.startTime AS LocalDate),
+              CAST(SUM(tr.duration) AS Integer), CAST(COUNT(tr) AS Integer)
+          FROM TimeRecord tr
+          WHERE tr.endTime IS NOT NULL
+          GROUP BY tr.user.id, tr.plan.id, CAST(tr.startTime AS LocalDate)
+          ORDER BY tr.user.id, tr.plan.id, CAST(tr.startTime AS LocalDate)
+      """;
+
+  private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+  @Autowired
+  private DailyReadingSummaryService dailyReadingSummaryService;
+
+  @Autowired
+  private EntityManager em;
+
+  private User user;
+  private Plan plan;
+  private Plan otherPlan;
+
+  @BeforeEach
+  void setUp() {
+    user = persistUser("reader");
+    User other = persistUser("other");
+    Book book = Book.builder().isbn("9788900000001").title("책").totalPage(300).build();
+    em.persist(book);
+    plan = persistPlan(user, book);
+    otherPlan = persistPlan(other, book);
+
+    for (int day = 0; day < 5; day++) {
+      stop(plan, DAY.plusDays(day).atTime(9, 0), 30);
+      stop(plan, DAY.plusDays(day).atTime(23, 50), 20);
+      stop(otherPlan, DAY.plusDays(day).atTime(12, 0), 40);
+    }
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  void 기록이_수정_삭제_누락된_집계를_다시_계산한다() {
+    // 하루치 기록 전체 삭제, 한 건 시간 수정, 집계에 반영되지 않은 기록 추가
+    em.createQuery("DELETE FROM TimeRecord tr WHERE tr.plan.id = :planId AND tr.startTime < :until")
+        .setParameter("planId", plan.getId())
+        .setParameter("until", DAY.plusDays(1).atStartOfDay())
+        .executeUpdate();
+    em.createQuery("UPDATE TimeRecord tr SET tr.duration = 90 WHERE tr.startTime = :startTime")
+        .setParameter("startTime", DAY.plusDays(1).atTime(9, 0))
+        .executeUpdate();
+    em.persist(record(plan, DAY.plusDays(2).atTime(15, 0), 15));
+    em.flush();
+    em.clear();
+
+    dailyReadingSummaryService.rebuild(user.getId(), DAY, DAY.plusDays(4));
+
+    assertThat(rows(SUMMARY_ROWS)).containsExactlyElementsOf(rows(EXPECTED_ROWS));
+  }
+
+  @Test
+  void 재계산_범위_밖의_날짜와_다른_사용자는_건드리지_않는다() {
+    em.createQuery("DELETE FROM TimeRecord tr WHERE tr.startTime < :until")
+        .setParameter("until", DAY.plusDays(1).atStartOfDay())
+        .executeUpdate();
+    em.createQuery("UPDATE TimeRecord tr SET tr.duration = 5")
+        .executeUpdate();
+    em.flush();
+    em.clear();
+    List<Object[]> before = rows(SUMMARY_ROWS);
+
+    dailyReadingSummaryService.rebuild(user.getId(), DAY.plusDays(3), DAY.plusDays(3));
+
+    List<Object[]> after = rows(SUMMARY_ROWS);
+    assertThat(after).hasSameSizeAs(before);
+    for (int i = 0; i < before.size(); i++) {
+      boolean rebuilt = before.get(i)[0].equals(user.getId())
+          && before.get(i)[2].equals(DAY.plusDays(3));
+      if (rebuilt) {
+        assertThat(after.get(i)[3]).isEqualTo(10);
+        assertThat(after.get(i)[4]).isEqualTo(2);
+      } else {
+        assertThat(after.get(i)).isEqualTo(before.get(i));
+      }
+    }
+  }
+
+  @Test
+  void 전체_사용자_재계산() {
+    em.createQuery("UPDATE TimeRecord tr SET tr.duration = tr.duration + 1")
+        .executeUpdate();
+    em.flush();
+    em.clear();
+
+    dailyReadingSummaryService.rebuild(null, DAY, DAY.plusDays(4));
+
+    assertThat(rows(SUMMARY_ROWS)).containsExactlyElementsOf(rows(EXPECTED_ROWS));
+  }
+
+  private List<Object[]> rows(String query) {
+    em.clear();
+    return em.createQuery(query, Object[].class).getResultList();
+  }
+
+  // 타이머 종료 흐름과 같이 기록 저장 후 일별 집계 반영
+  private void stop(Plan plan, LocalDateTime startTime, int minutes) {
+    TimeRecord record = record(plan, startTime, minutes);
+    em.persist(record);
+    dailyReadingSummaryService.record(record);
+  }
+
+  private TimeRecord record(Plan plan, LocalDateTime startTime, int minutes) {
+    return TimeRecord.builder()
+        .user(plan.getUser())
+        .plan(plan)
+        .startTime(startTime)
+        .endTime(startTime.plusMinutes(minutes))
+        .duration(minutes)
+        .build();
+  }
+
+  private User persistUser(String nickname) {
+    User user = User.builder().nickname(nickname).status(UserStatus.ACTIVE).build();
+    em.persist(user);
+    return user;
+  }
+
+  private Plan persistPlan(User owner, Book book) {
+    Plan plan = Plan.builder().user(owner).book(book).status(PlanStatus.READING).build();
+    em.persist(plan);
+    return plan;
+  }
+}
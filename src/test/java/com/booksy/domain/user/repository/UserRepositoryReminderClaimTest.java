@@ -0,0 +1,116 @@
+package com.booksy.domain.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.domain.user.entity.User;
+import com.booksy.domain.user.entity.UserStatus;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 독서 알림 발송권 선점이 사용자당 하루 한 번만 성공하는지 확인 (여러 서버가 동시에 선점하는 경우 포함)
+ */
+@DataJpaTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:reminderClaim;MODE=MySQL;NON_KEYWORDS=USER,VALUE")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRepositoryReminderClaimTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 5, 1);
+  private static final LocalTime DEFAULT_TIME = LocalTime.of(20, 0);
+  private static final LocalTime NOW = LocalTime.of(21, 0);
+  private static final int CLAIMERS = 16;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    userRepository.deleteAll();
+  }
+
+  @Test
+  void 같은_날에는_한_번만_선점되고_다음_날에는_다시_선점된다() {
+    List<Integer> userIds = List.of(save(null, true).getId(), save(null, true).getId());
+
+    assertThat(claim(userIds, TODAY)).isEqualTo(2);
+    assertThat(claim(userIds, TODAY)).isZero();
+    assertThat(claim(userIds, TODAY.plusDays(1))).isEqualTo(2);
+  }
+
+  @Test
+  void 수신_거부_사용자와_희망_시각이_아직인_사용자는_선점하지_않는다() {
+    Integer disabled = save(null, false).getId();
+    Integer later = save(LocalTime.of(22, 0), true).getId();
+    Integer due = save(LocalTime.of(7, 30), true).getId();
+
+    assertThat(claim(List.of(disabled, later, due), TODAY)).isEqualTo(1);
+    assertThat(userRepository.findById(due).orElseThrow().getLastRemindedOn()).isEqualTo(TODAY);
+    assertThat(userRepository.findById(later).orElseThrow().getLastRemindedOn()).isNull();
+  }
+
+  @Test
+  void 여러_서버가_동시에_선점해도_사용자마다_한_회차만_성공한다() throws Exception {
+    List<Integer> userIds = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      userIds.add(save(null, true).getId());
+    }
+
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService pool = Executors.newFixedThreadPool(CLAIMERS);
+    int claimed = 0;
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < CLAIMERS; i++) {
+        results.add(pool.submit(() -> {
+          start.await();
+          return claim(userIds, TODAY);
+        }));
+      }
+      start.countDown();
+      for (Future<Integer> result : results) {
+        claimed += result.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertThat(claimed).isEqualTo(userIds.size());
+  }
+
+  private int claim(List<Integer> userIds, LocalDate date) {
+    return new TransactionTemplate(transactionManager).execute(status ->
+        userRepository.claimDailyReminders(userIds, date, NOW, DEFAULT_TIME,
+            UUID.randomUUID().toString()));
+  }
+
+  private User save(LocalTime reminderTime, boolean pushEnabled) {
+    return userRepository.save(User.builder()
+        .nickname("reader")
+        .status(UserStatus.ACTIVE)
+        .reminderTime(reminderTime)
+        .isPushEnabled(pushEnabled)
+        .build());
+  }
+}
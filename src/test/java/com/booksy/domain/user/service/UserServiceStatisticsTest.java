@@ -0,0 +1,206 @@
+package com.booksy.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.booksy.domain.book.entity.Book;
+import com.booksy.domain.notification.service.ReminderScheduleService;
+import com.booksy.domain.plan.entity.Plan;
+import com.booksy.domain.plan.type.PlanStatus;
+import com.booksy.domain.readinglog.entity.TimeRecord;
+import com.booksy.domain.readinglog.service.DailyReadingSummaryService;
+import com.booksy.domain.user.dto.ReadingStatisticsItemDto;
+import com.booksy.domain.user.entity.User;
+import com.booksy.domain.user.entity.UserStatus;
+import com.booksy.global.util.JwtTokenProvider;
+import jakarta.persistence.EntityManager;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 통계 조회가 기존 방식(날짜마다 time_record SUM 쿼리)과 같은 결과를 내는지 비교
+ */
+@DataJpaTest(properties =
+    "spring.datasource.url=jdbc:h2:mem:statistics;MODE=MySQL;NON_KEYWORDS=USER,VALUE")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({UserService.class, DailyReadingSummaryService.class})
+class UserServiceStatisticsTest {
+
+  // 기존 UserService가 날짜마다 실행하던 쿼리
+  private static final String LEGACY_DAILY_MINUTES = """
+          SELECT COALESCE(SUM(tr.duration), 0)
+          FROM TimeRecord tr
+          WHERE tr.user.id = :userId
+            AND DATE(tr.startTime) = :date
+      """;
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private DailyReadingSummaryService dailyReadingSummaryService;
+
+  @Autowired
+  private EntityManager em;
+
+  @MockitoBean
+  private PasswordEncoder passwordEncoder;
+
+  @MockitoBean
+  private JwtTokenProvider jwtTokenProvider;
+
+  @MockitoBean
+  private ReminderScheduleService reminderScheduleService;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = persistUser("reader");
+    User other = persistUser("other");
+    Book book = Book.builder().isbn("9788900000001").title("책").totalPage(300).build();
+    em.persist(book);
+    Plan plan = persistPlan(user, book);
+    Plan otherPlan = persistPlan(other, book);
+
+    // 작년 말 ~ 올해 말, 자정 전후와 같은 날 여러 번 기록 포함
+    Random random = new Random(42);
+    LocalDate from = LocalDate.now().withDayOfYear(1).minusWeeks(5);
+    LocalDate to = LocalDate.now().withMonth(12).withDayOfMonth(31);
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      int sessions = random.nextInt(4);
+      for (int i = 0; i < sessions; i++) {
+        LocalTime time = switch (random.nextInt(4)) {
+          case 0 -> LocalTime.MIDNIGHT;
+          case 1 -> LocalTime.of(23, 59);
+          default -> LocalTime.of(random.nextInt(24), random.nextInt(60));
+        };
+        stop(plan, date.atTime(time), random.nextInt(180) + 1);
+      }
+      if (random.nextInt(5) == 0) {
+        stop(otherPlan, date.atTime(12, 0), random.nextInt(180) + 1);
+      }
+    }
+
+    // 종료하지 않은 타이머는 어느 쪽에도 포함되지 않음
+    em.persist(TimeRecord.builder().user(user).plan(plan)
+        .startTime(LocalDate.now().atTime(9, 0)).build());
+    em.flush();
+    em.clear();
+  }
+
+  @Test
+  void dailyStatisticsMatchPerDayQueries() {
+    assertSameItems(userService.getReadingStatistics(user.getId(), "day"), legacyDaily());
+  }
+
+  @Test
+  void weeklyStatisticsMatchPerDayQueries() {
+    assertSameItems(userService.getReadingStatistics(user.getId(), "week"), legacyWeekly());
+  }
+
+  @Test
+  void monthlyStatisticsMatchPerDayQueries() {
+    assertSameItems(userService.getReadingStatistics(user.getId(), "month"), legacyMonthly());
+  }
+
+  private List<String[]> legacyDaily() {
+    List<String[]> result = new ArrayList<>();
+    LocalDate today = LocalDate.now();
+    LocalDate firstDay = today.withDayOfMonth(1);
+    LocalDate lastDay = today.withDayOfMonth(today.lengthOfMonth());
+    for (LocalDate date = firstDay; !date.isAfter(lastDay); date = date.plusDays(1)) {
+      int totalMinutes = legacyMinutes(date);
+      result.add(item(date.toString(), totalMinutes, totalMinutes));
+    }
+    return result;
+  }
+
+  private List<String[]> legacyWeekly() {
+    List<String[]> result = new ArrayList<>();
+    LocalDate endOfWeek = LocalDate.now().with(DayOfWeek.SATURDAY);
+    for (int i = 3; i >= 0; i--) {
+      LocalDate end = endOfWeek.minusWeeks(i);
+      LocalDate start = end.minusDays(6);
+      int totalMinutes = 0;
+      for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+        totalMinutes += legacyMinutes(d);
+      }
+      result.add(item(start + " ~ " + end, totalMinutes / 7, totalMinutes));
+    }
+    return result;
+  }
+
+  private List<String[]> legacyMonthly() {
+    List<String[]> result = new ArrayList<>();
+    int year = YearMonth.now().getYear();
+    for (int i = 1; i <= 12; i++) {
+      YearMonth ym = YearMonth.of(year, i);
+      int totalMinutes = 0;
+      for (int d = 1; d <= ym.lengthOfMonth(); d++) {
+        totalMinutes += legacyMinutes(ym.atDay(d));
+      }
+      result.add(item(ym.toString(), totalMinutes / ym.lengthOfMonth(), totalMinutes));
+    }
+    return result;
+  }
+
+  private int legacyMinutes(LocalDate date) {
+    return em.createQuery(LEGACY_DAILY_MINUTES, Number.class)
+        .setParameter("userId", user.getId())
+        .setParameter("date", date)
+        .getSingleResult()
+        .intValue();
+  }
+
+  private void assertSameItems(List<ReadingStatisticsItemDto> actual, List<String[]> expected) {
+    assertThat(actual)
+        .extracting(dto -> new String[]{dto.getLabel(), dto.getAverageMinutes(),
+            dto.getFormattedTime()})
+        .containsExactlyElementsOf(expected);
+  }
+
+  private String[] item(String label, int averageMinutes, int totalMinutes) {
+    return new String[]{label, String.format("%02d:%02d", averageMinutes / 60, averageMinutes % 60),
+        String.format("%02d:%02d", totalMinutes / 60, totalMinutes % 60)};
+  }
+
+  // 타이머 종료 흐름과 같이 기록 저장 후 일별 집계 반영
+  private void stop(Plan plan, LocalDateTime startTime, int minutes) {
+    TimeRecord record = TimeRecord.builder()
+        .user(plan.getUser())
+        .plan(plan)
+        .startTime(startTime)
+        .endTime(startTime.plusMinutes(minutes))
+        .duration(minutes)
+        .build();
+    em.persist(record);
+    dailyReadingSummaryService.record(record);
+  }
+
+  private User persistUser(String nickname) {
+    User user = User.builder().nickname(nickname).status(UserStatus.ACTIVE).build();
+    em.persist(user);
+    return user;
+  }
+
+  private Plan persistPlan(User owner, Book book) {
+    Plan plan = Plan.builder().user(owner).book(book).status(PlanStatus.READING).build();
+    em.persist(plan);
+    return plan;
+  }
+}
@@ -0,0 +1,44 @@
+package com.booksy.global.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 재시도 대기열 용량 제한과 재시도 시각 확인
+ */
+class PushRetryQueueTest {
+
+  private static final long HOUR_MS = 3_600_000;
+
+  @Test
+  void 용량이_차면_새_항목을_받지_않는다() {
+    PushRetryQueue queue = new PushRetryQueue(3);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(queue.offer(message(i), 2, HOUR_MS)).isTrue();
+    }
+
+    assertThat(queue.offer(message(3), 2, 0)).isFalse();
+    assertThat(queue.size()).isEqualTo(3);
+  }
+
+  @Test
+  void 재시도_시각이_된_항목만_꺼내고_꺼낸_만큼_다시_받는다() {
+    PushRetryQueue queue = new PushRetryQueue(2);
+    queue.offer(message(0), 2, 0);
+    queue.offer(message(1), 3, HOUR_MS);
+
+    assertThat(queue.drainDue()).singleElement().satisfies(item -> {
+      assertThat(item.message()).isEqualTo(message(0));
+      assertThat(item.attempt()).isEqualTo(2);
+    });
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.offer(message(2), 2, 0)).isTrue();
+    assertThat(queue.offer(message(3), 2, 0)).isFalse();
+  }
+
+  private PushMessage message(int index) {
+    return new PushMessage("token-" + index, "제목", "본문");
+  }
+}
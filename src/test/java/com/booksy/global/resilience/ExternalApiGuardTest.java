@@ -0,0 +1,113 @@
+package com.booksy.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withBadRequest;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.booksy.global.error.ErrorCode;
+import com.booksy.global.error.exception.ApiException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API 격리 동작 확인 (MockRestServiceServer로 알라딘 연동 RestTemplate의 응답을 흉내냄)
+ */
+class ExternalApiGuardTest {
+
+  private static final String URL = "https://aladin.test/ItemSearch.aspx";
+
+  private RestTemplate restTemplate;
+  private MockRestServiceServer server;
+  private ExternalApiGuard guard;
+
+  @BeforeEach
+  void setUp() {
+    restTemplate = new RestTemplate();
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+    MockEnvironment environment = new MockEnvironment()
+        .withProperty("external.resilience.aladin.sliding-window-size", "4")
+        .withProperty("external.resilience.aladin.minimum-calls", "4")
+        .withProperty("external.resilience.aladin.open-duration", "1m")
+        .withProperty("external.resilience.aladin.max-concurrent-calls", "1")
+        .withProperty("external.resilience.aladin.max-wait", "0ms");
+    environment.setConversionService(new ApplicationConversionService()); // "1m" 같은 Duration 표기 변환
+    guard = new ExternalApiGuard(environment, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void 서버_오류가_쌓이면_차단기가_열리고_이후_호출은_외부로_나가지_않는다() {
+    server.expect(times(4), requestTo(URL)).andRespond(withServerError());
+
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> guard.call(Upstream.ALADIN, this::fetch))
+          .isInstanceOf(HttpServerErrorException.class);
+    }
+    assertThat(guard.getState(Upstream.ALADIN)).isEqualTo(CircuitBreaker.State.OPEN);
+
+    assertThatThrownBy(() -> guard.call(Upstream.ALADIN, this::fetch))
+        .isInstanceOfSatisfying(ApiException.class, e ->
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_UNAVAILABLE));
+    assertThat(guard.call(Upstream.ALADIN, this::fetch, () -> "fallback")).isEqualTo("fallback");
+    server.verify();
+  }
+
+  @Test
+  void 클라이언트_오류는_실패로_집계하지_않고_fallback_없이_그대로_전달한다() {
+    server.expect(times(8), requestTo(URL)).andRespond(withBadRequest());
+
+    for (int i = 0; i < 8; i++) {
+      assertThatThrownBy(() -> guard.call(Upstream.ALADIN, this::fetch, () -> "fallback"))
+          .isInstanceOf(HttpClientErrorException.class);
+    }
+    assertThat(guard.getState(Upstream.ALADIN)).isEqualTo(CircuitBreaker.State.CLOSED);
+    server.verify();
+  }
+
+  @Test
+  void 동시_호출_상한을_넘으면_기다리지_않고_거절한다() throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    server.expect(requestTo(URL)).andRespond(request -> {
+      entered.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return withSuccess("ok", MediaType.TEXT_PLAIN).createResponse(request);
+    });
+
+    CompletableFuture<String> inFlight =
+        CompletableFuture.supplyAsync(() -> guard.call(Upstream.ALADIN, this::fetch));
+    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> guard.call(Upstream.ALADIN, this::fetch))
+        .isInstanceOfSatisfying(ApiException.class, e ->
+            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_UNAVAILABLE));
+    assertThat(guard.call(Upstream.ALADIN, this::fetch, () -> "fallback")).isEqualTo("fallback");
+
+    release.countDown();
+    assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+    server.verify();
+  }
+
+  private String fetch() {
+    return restTemplate.getForObject(URL, String.class);
+  }
+}
@@ -0,0 +1,81 @@
+package com.booksy.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+  private static final int CALLERS = 100;
+
+  @Test
+  void 같은_키의_동시_호출은_작업을_한_번만_실행하고_결과를_공유한다() throws Exception {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    AtomicInteger invocations = new AtomicInteger();
+    CountDownLatch allSubmitted = new CountDownLatch(CALLERS);
+
+    ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < CALLERS; i++) {
+        results.add(pool.submit(() -> {
+          allSubmitted.countDown();
+          return singleFlight.execute("9788936434120", () -> {
+            invocations.incrementAndGet();
+            // 나머지 호출이 모두 execute에 들어와 진행 중인 작업에 합류할 때까지 붙잡아 둠
+            awaitOthers(allSubmitted);
+            return "book";
+          });
+        }));
+      }
+
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("book");
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertThat(invocations).hasValue(1);
+    assertThat(singleFlight.size()).isZero();
+  }
+
+  @Test
+  void 작업이_끝나면_다음_호출은_다시_실행한다() {
+    SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+    AtomicInteger invocations = new AtomicInteger();
+
+    singleFlight.execute("key", invocations::incrementAndGet);
+    singleFlight.execute("key", invocations::incrementAndGet);
+
+    assertThat(invocations).hasValue(2);
+  }
+
+  @Test
+  void 작업의_예외는_감싸지_않고_그대로_전달한다() {
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+      throw new IllegalStateException("boom");
+    })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    assertThat(singleFlight.size()).isZero();
+  }
+
+  private static void awaitOthers(CountDownLatch allSubmitted) {
+    try {
+      allSubmitted.await(5, TimeUnit.SECONDS);
+      Thread.sleep(200);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}